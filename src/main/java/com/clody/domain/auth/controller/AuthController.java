@@ -3,8 +3,8 @@ package com.clody.domain.auth.controller;
 import com.clody.domain.auth.dto.AuthRequestDTO;
 import com.clody.domain.auth.dto.AuthResponseDTO;
 import com.clody.domain.auth.service.AuthService;
-import com.clody.domain.member.entity.Member;
 import com.clody.global.apiPayload.ApiResponse;
+import com.clody.global.auth.AuthPrincipal;
 import com.clody.global.auth.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -40,11 +40,11 @@ public class AuthController {
         description = "로그아웃하고 저장된 RefreshToken을 삭제합니다.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
-    public ApiResponse<AuthResponseDTO.Logout> logout(@CurrentUser Member member) {
+    public ApiResponse<AuthResponseDTO.Logout> logout(@CurrentUser AuthPrincipal member) {
         
-        log.info("로그아웃 요청 - memberId: {}", member.getId());
+        log.info("로그아웃 요청 - memberId: {}", member.getMemberId());
         
-        AuthResponseDTO.Logout response = authService.logout(member.getId());
+        AuthResponseDTO.Logout response = authService.logout(member);
         return ApiResponse.onSuccess(response);
     }
 
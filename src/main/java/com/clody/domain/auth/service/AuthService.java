@@ -6,13 +6,17 @@ import com.clody.domain.auth.exception.AuthErrorCode;
 import com.clody.domain.auth.exception.AuthException;
 import com.clody.domain.member.entity.Member;
 import com.clody.domain.member.repository.MemberRepository;
+import com.clody.global.auth.AccessTokenRevocationService;
+import com.clody.global.auth.AuthPrincipal;
+import com.clody.global.auth.PasswordHashingService;
 import com.clody.global.auth.RefreshTokenService;
 import com.clody.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -24,10 +28,15 @@ import java.util.Date;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
+    // 비밀번호 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다
+    // (조회는 리포지토리 단위로 끝나고, 재해싱 결과만 짧은 트랜잭션으로 저장)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO.Login login(AuthRequestDTO.Login request) {
         String email = request.getEmail();
         String password = request.getPassword();
@@ -46,33 +55,43 @@ public class AuthService {
         }
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(password, member.getPassword())) {
+        if (!passwordHashingService.matches(password, member.getPassword())) {
             log.warn("비밀번호가 일치하지 않습니다. email: {}", email);
             throw new AuthException(AuthErrorCode.INVALID_CREDENTIALS);
         }
 
-        // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(member.getEmail(), member.getId());
-        String refreshToken = jwtUtil.generateRefreshToken(member.getEmail(), member.getId());
-        LocalDateTime tokenExpiresAt = jwtUtil.getExpirationAsLocalDateTime(accessToken);
-
-        // 기존 RefreshToken이 있다면 삭제
-        if (refreshTokenService.existsRefreshToken(member.getId())) {
-            refreshTokenService.deleteRefreshToken(member.getId());
+        // 설정된 cost 와 다른 해시면 평문을 알고 있는 지금 다시 해싱해 둔다
+        if (passwordHashingService.needsRehash(member.getPassword())) {
+            rehash(member.getId(), member.getPassword(), password);
         }
 
-        // Redis에 새 RefreshToken 저장
+        // JWT 토큰 생성 (기기별 세션)
+        String sessionId = jwtUtil.newSessionId();
+        String accessToken = jwtUtil.generateAccessToken(member, sessionId);
+        String refreshToken = jwtUtil.generateRefreshToken(member.getEmail(), member.getId(), sessionId);
+        LocalDateTime tokenExpiresAt = jwtUtil.getExpirationAsLocalDateTime(accessToken);
+
+        // Redis에 새 세션 저장 (만료 세션 정리 / 최대 세션 수 제한 포함, 한 번의 스크립트 호출)
         Date refreshTokenExpiration = jwtUtil.getExpirationFromToken(refreshToken);
-        refreshTokenService.saveRefreshToken(member.getId(), refreshToken, refreshTokenExpiration);
+        refreshTokenService.createSession(member.getId(), sessionId, refreshToken, refreshTokenExpiration);
 
         log.info("로그인 성공 - memberId: {}, email: {}", member.getId(), member.getEmail());
 
         return AuthResponseDTO.Login.of(accessToken, refreshToken, tokenExpiresAt, member);
     }
 
-    public AuthResponseDTO.Logout logout(Long memberId) {
-        // Redis에서 RefreshToken 삭제
-        refreshTokenService.deleteRefreshToken(memberId);
+    public AuthResponseDTO.Logout logout(AuthPrincipal principal) {
+        Long memberId = principal.getMemberId();
+
+        // Redis에서 RefreshToken 삭제 (세션 id 가 없는 이전 토큰이면 전체 삭제)
+        if (principal.getSessionId() != null) {
+            refreshTokenService.deleteSession(memberId, principal.getSessionId());
+        } else {
+            refreshTokenService.deleteAllRefreshTokens(memberId);
+        }
+
+        // 사용 중인 액세스 토큰도 만료 전까지 폐기
+        accessTokenRevocationService.revoke(principal.getTokenId(), principal.getExpiresAt());
 
         log.info("로그아웃 완료 - memberId: {}", memberId);
 
@@ -98,12 +117,7 @@ public class AuthService {
             // RefreshToken에서 사용자 정보 추출
             Long memberId = jwtUtil.getMemberIdFromToken(refreshToken);
             String email = jwtUtil.getEmailFromToken(refreshToken);
-
-            // Redis에 저장된 RefreshToken과 비교
-            if (!refreshTokenService.validateRefreshToken(memberId, refreshToken)) {
-                log.warn("Redis에 저장된 RefreshToken과 일치하지 않습니다. memberId: {}", memberId);
-                throw new AuthException(AuthErrorCode.REFRESH_TOKEN_MISMATCH);
-            }
+            String sessionId = jwtUtil.getSessionIdFromToken(refreshToken);
 
             // 사용자 존재 여부 확인
             Member member = memberRepository.findById(memberId)
@@ -112,15 +126,21 @@ public class AuthService {
                         return new AuthException(AuthErrorCode.MEMBER_NOT_FOUND);
                     });
 
-            // 새로운 토큰 생성
-            String newAccessToken = jwtUtil.generateAccessToken(email, memberId);
-            String newRefreshToken = jwtUtil.generateRefreshToken(email, memberId);
+            // 새로운 토큰 생성 (이전 형식 토큰이면 새 세션 id 발급)
+            String newSessionId = (sessionId != null) ? sessionId : jwtUtil.newSessionId();
+            String newAccessToken = jwtUtil.generateAccessToken(member, newSessionId);
+            String newRefreshToken = jwtUtil.generateRefreshToken(email, memberId, newSessionId);
             LocalDateTime tokenExpiresAt = jwtUtil.getExpirationAsLocalDateTime(newAccessToken);
 
-            // 기존 RefreshToken 삭제 후 새 토큰 저장
-            refreshTokenService.deleteRefreshToken(memberId);
+            // Redis에 저장된 RefreshToken과 비교 후 교체 (compare-and-swap, 한 번의 스크립트 호출)
             Date newRefreshTokenExpiration = jwtUtil.getExpirationFromToken(newRefreshToken);
-            refreshTokenService.saveRefreshToken(memberId, newRefreshToken, newRefreshTokenExpiration);
+            boolean rotated = (sessionId != null)
+                    ? refreshTokenService.rotate(memberId, sessionId, refreshToken, newRefreshToken, newRefreshTokenExpiration)
+                    : refreshTokenService.rotateLegacy(memberId, refreshToken, newSessionId, newRefreshToken, newRefreshTokenExpiration);
+            if (!rotated) {
+                log.warn("Redis에 저장된 RefreshToken과 일치하지 않습니다. memberId: {}", memberId);
+                throw new AuthException(AuthErrorCode.REFRESH_TOKEN_MISMATCH);
+            }
 
             log.info("토큰 재발급 완료 - memberId: {}, email: {}", memberId, email);
 
@@ -131,4 +151,17 @@ public class AuthService {
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         }
     }
-}
\ No newline at end of file
+
+    // 재해싱은 로그인 트랜잭션 밖에서 하고, 그사이 비밀번호가 바뀌지 않았을 때만 저장한다. 실패해도 로그인은 계속한다
+    private void rehash(Long memberId, String currentHash, String rawPassword) {
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId)
+                    .filter(m -> currentHash.equals(m.getPassword()))
+                    .ifPresent(m -> m.updatePassword(newHash)));
+            log.info("비밀번호 재해싱 - memberId: {}", memberId);
+        } catch (Exception e) {
+            log.warn("비밀번호 재해싱 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+}
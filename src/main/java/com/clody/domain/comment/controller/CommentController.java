@@ -4,7 +4,7 @@ import com.clody.domain.comment.dto.CommentRequestDTO;
 import com.clody.domain.comment.dto.CommentResponseDTO;
 import com.clody.domain.comment.service.commentCommandService.CommentCommandService;
 import com.clody.domain.comment.service.commentQueryService.CommentQueryService;
-import com.clody.domain.member.entity.Member;
+import com.clody.global.auth.AuthPrincipal;
 import com.clody.global.auth.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -26,10 +26,10 @@ public class CommentController {
     @PostMapping
     public ResponseEntity<CommentResponseDTO.CreateResponseDTO> create(
             @PathVariable Long ootdId,
-            @CurrentUser Member memeber,
+            @CurrentUser AuthPrincipal memeber,
             @Valid @RequestBody CommentRequestDTO.CreateCommentDTO req
     ) {
-        return ResponseEntity.ok(commentCommandService.add(ootdId, memeber.getId(), req));
+        return ResponseEntity.ok(commentCommandService.add(ootdId, memeber.getMemberId(), req));
     }
 
     @Operation(summary = "특정 ootd의 전체 댓글 조회", description = "특정 ootd의 전체 댓글 조회")
@@ -45,9 +45,9 @@ public class CommentController {
     public ResponseEntity<Void> delete(
             @PathVariable Long ootdId,
             @PathVariable Long commentId,
-            @CurrentUser Member member
+            @CurrentUser AuthPrincipal member
     ) {
-        commentCommandService.deleteCascade(commentId, member.getId());
+        commentCommandService.deleteCascade(commentId, member.getMemberId());
         return ResponseEntity.noContent().build();
     }
 }
@@ -13,6 +13,7 @@ import com.clody.domain.ootd.entity.Ootd;
 import com.clody.domain.ootd.exception.OotdErrorCode;
 import com.clody.domain.ootd.exception.OotdException;
 import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,7 @@ public class CommentCommandServiceImpl implements CommentCommandService {
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
     private final CommentClosureRepository closureRepository;
+    private final OotdCounterService ootdCounterService;
 
     @Transactional
     @Override
@@ -60,6 +62,7 @@ public class CommentCommandServiceImpl implements CommentCommandService {
             closureRepository.insertAncestorLinksFromParent(parent.getId(), saved.getId()); // (A,new,depth+1)
             closureRepository.insertSelfLink(saved.getId());
         }
+        ootdCounterService.addComments(ootdId, 1);
 
         return new CommentResponseDTO.CreateResponseDTO(
                 saved.getId(),
@@ -83,5 +86,6 @@ public class CommentCommandServiceImpl implements CommentCommandService {
         closureRepository.deleteLinksForIds(ids);
 
         commentRepository.deleteAllByIdInBatch(ids);
+        ootdCounterService.addComments(target.getOotd().getId(), -ids.size());
     }
 }
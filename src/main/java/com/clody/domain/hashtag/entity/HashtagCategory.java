@@ -2,6 +2,8 @@ package com.clody.domain.hashtag.entity;
 
 import lombok.Getter;
 
+import java.util.Collection;
+
 @Getter
 public enum HashtagCategory {
     PADDED_COAT("패딩"),
@@ -29,4 +31,17 @@ public enum HashtagCategory {
     HashtagCategory(String koreanName) {
         this.koreanName = koreanName;
     }
+
+    // ootd.hashtag_mask 의 비트 위치는 ordinal 이므로 새 값은 반드시 맨 뒤에 추가한다 (int 이므로 최대 31개)
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int maskOf(Collection<HashtagCategory> categories) {
+        int mask = 0;
+        for (HashtagCategory category : categories) {
+            mask |= category.mask();
+        }
+        return mask;
+    }
 }
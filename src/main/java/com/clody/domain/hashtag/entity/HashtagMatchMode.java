@@ -0,0 +1,7 @@
+package com.clody.domain.hashtag.entity;
+
+// 해시태그 필터 조건: ANY 는 하나라도 포함, ALL 은 모두 포함
+public enum HashtagMatchMode {
+    ANY,
+    ALL
+}
@@ -7,6 +7,7 @@ import com.clody.domain.member.service.MemberCommandService;
 import com.clody.domain.member.service.MemberQueryService;
 import com.clody.global.apiPayload.ApiResponse;
 import com.clody.global.auth.CurrentUser;
+import com.clody.global.auth.MemberSnapshot;
 import com.clody.global.email.EmailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 
+import java.io.IOException;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/members")
@@ -108,7 +112,7 @@ public class MemberController {
         description = "JWT 토큰을 통해 현재 로그인한 회원의 프로필 정보를 조회합니다.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
-    public ApiResponse<MemberResponseDTO.MemberProfile> getCurrentMemberProfile(@CurrentUser Member member) {
+    public ApiResponse<MemberResponseDTO.MemberProfile> getCurrentMemberProfile(@CurrentUser MemberSnapshot member) {
         
         log.info("로그인한 회원 프로필 조회 요청 - memberId: {}", member.getId());
         
@@ -202,6 +206,26 @@ public class MemberController {
         return ApiResponse.onSuccess(response);
     }
 
+    @PutMapping(value = "/profile-image/stream",
+            consumes = {"image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"})
+    @Operation(
+        summary = "프로필 이미지 업로드 (스트리밍)",
+        description = "요청 본문 자체를 이미지로 받아 서버에 저장하지 않고 바로 업로드합니다. " +
+                     "Content-Type 으로 형식을 지정합니다. 지원 형식: JPG, JPEG, PNG, GIF, WEBP (최대 5MB)",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    public ApiResponse<MemberResponseDTO.UploadProfileImage> uploadProfileImageStream(
+            @CurrentUser Member member,
+            HttpServletRequest request) throws IOException {
+
+        log.info("프로필 이미지 스트리밍 업로드 요청 - memberId: {}, Content-Type: {}",
+                member.getId(), request.getContentType());
+
+        MemberResponseDTO.UploadProfileImage response = memberCommandService.uploadProfileImageStream(
+                member, request.getInputStream(), request.getContentType(), request.getContentLengthLong());
+        return ApiResponse.onSuccess(response);
+    }
+
     @PatchMapping("/nickname")
     @Operation(
         summary = "닉네임 변경", 
@@ -54,6 +54,11 @@ public class Member extends BaseSoftDeleteEntity {
     @Column(name = "oauth_provider")
     private String oauthProvider;
 
+    // 토큰 claims 에 담기는 프로필(닉네임, 공개 범위, 프로필 이미지)이 바뀔 때마다 증가
+    @Builder.Default
+    @Column(name = "profile_version", nullable = false, columnDefinition = "integer default 0")
+    private int profileVersion = 0;
+
 
     @Builder.Default
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
@@ -85,6 +90,7 @@ public class Member extends BaseSoftDeleteEntity {
 
     public void updateAccountScope(AccountScope accountScope) {
         this.accountScope = accountScope;
+        this.profileVersion++;
     }
 
     public void updatePassword(String password) {
@@ -93,9 +99,11 @@ public class Member extends BaseSoftDeleteEntity {
 
     public void updateProfileImageUrl(String profileImageUrl) {
         this.profileImageUrl = profileImageUrl;
+        this.profileVersion++;
     }
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        this.profileVersion++;
     }
 }
@@ -8,30 +8,46 @@ import com.clody.domain.member.entity.MemberToken;
 import com.clody.domain.member.exception.MemberErrorCode;
 import com.clody.domain.member.exception.MemberException;
 import com.clody.domain.member.repository.MemberRepository;
+import com.clody.global.auth.MemberSnapshotCache;
+import com.clody.global.auth.PasswordHashingService;
+import com.clody.global.apiPayload.exception.GeneralException;
+import com.clody.global.auth.RefreshTokenService;
 import com.clody.global.email.EmailVerificationService;
 import com.clody.global.jwt.JwtUtil;
 import com.clody.global.s3.service.S3Service;
 import com.clody.global.util.ImageValidationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
 
+/**
+ * 회원 변경 서비스.
+ * 클래스 전체를 트랜잭션으로 묶지 않는다. DB 커넥션은 실제 DB 작업 동안만 잡고,
+ * 비밀번호 해싱·S3·Redis·메일 적재 같은 느린 작업은 트랜잭션 바깥(앞/뒤)에서 처리한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class MemberCommandService {
 
     private final MemberRepository memberRepository;
     private final EmailVerificationService emailVerificationService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final S3Service s3Service;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+
+    private record SignedUpMember(Member member, String accessToken, String refreshToken) {
+    }
 
     public MemberResponseDTO.SendEmailVerification sendEmailVerification(MemberRequestDTO.SendEmailVerification request) {
         String email = request.getEmail();
@@ -96,35 +112,42 @@ public class MemberCommandService {
             throw new MemberException(MemberErrorCode.NICKNAME_ALREADY_EXISTS);
         }
         
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
-        
-        // 회원 생성
-        Member member = Member.builder()
-                .email(email)
-                .password(encodedPassword)
-                .nickname(nickname)
-                .isEmailVerified(true)
-                .build();
-        
-        Member savedMember = memberRepository.save(member);
-        
-        // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(savedMember.getEmail(), savedMember.getId());
-        String refreshToken = jwtUtil.generateRefreshToken(savedMember.getEmail(), savedMember.getId());
+        // 비밀번호 암호화 (트랜잭션 밖에서)
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+        
+        // 회원과 RefreshToken 저장만 짧은 트랜잭션으로 처리
+        String sessionId = jwtUtil.newSessionId();
+        SignedUpMember signedUp = transactionTemplate.execute(status -> {
+            Member savedMember = memberRepository.save(Member.builder()
+                    .email(email)
+                    .password(encodedPassword)
+                    .nickname(nickname)
+                    .isEmailVerified(true)
+                    .build());
+
+            // JWT 토큰 생성
+            String accessToken = jwtUtil.generateAccessToken(savedMember, sessionId);
+            String refreshToken = jwtUtil.generateRefreshToken(savedMember.getEmail(), savedMember.getId(), sessionId);
+
+            // Refresh Token을 DB에 저장 (MemberToken 엔티티 사용)
+            savedMember.getTokens().add(MemberToken.builder()
+                    .member(savedMember)
+                    .refreshToken(refreshToken)
+                    .issuedAt(LocalDateTime.now())
+                    .expiredAt(jwtUtil.getExpirationAsLocalDateTime(refreshToken))
+                    .revoked(false)
+                    .build());
+            return new SignedUpMember(savedMember, accessToken, refreshToken);
+        });
+        Member savedMember = signedUp.member();
+        String accessToken = signedUp.accessToken();
+        String refreshToken = signedUp.refreshToken();
+        
+        // 커밋 이후 Redis 세션 생성
+        refreshTokenService.createSession(savedMember.getId(), sessionId, refreshToken,
+                jwtUtil.getExpirationFromToken(refreshToken));
         LocalDateTime tokenExpiresAt = jwtUtil.getExpirationAsLocalDateTime(accessToken);
         
-        // Refresh Token을 DB에 저장 (MemberToken 엔티티 사용)
-        MemberToken memberToken = MemberToken.builder()
-                .member(savedMember)
-                .refreshToken(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .expiredAt(jwtUtil.getExpirationAsLocalDateTime(refreshToken))
-                .revoked(false)
-                .build();
-        
-        savedMember.getTokens().add(memberToken);
-        
         // Redis에서 이메일 인증 플래그 삭제
         emailVerificationService.removeVerifiedFlag(email);
         
@@ -134,6 +157,7 @@ public class MemberCommandService {
         return MemberResponseDTO.SignUp.from(savedMember, accessToken, refreshToken, tokenExpiresAt);
     }
 
+    @Transactional
     public MemberResponseDTO.UpdateAccountScope updateAccountScope(Member member, MemberRequestDTO.UpdateAccountScope request) {
         AccountScope newAccountScope = request.getAccountScope();
         
@@ -150,6 +174,7 @@ public class MemberCommandService {
         // 계정 범위 업데이트
         member.updateAccountScope(newAccountScope);
         Member savedMember = memberRepository.save(member);
+        memberSnapshotCache.evict(savedMember.getId(), savedMember.getProfileVersion());
         
         log.info("계정 범위 변경 완료 - memberId: {}, accountScope: {}", 
                 savedMember.getId(), savedMember.getAccountScope());
@@ -228,15 +253,16 @@ public class MemberCommandService {
         }
         
         // 현재 비밀번호와 동일한지 확인
-        if (passwordEncoder.matches(newPassword, member.getPassword())) {
+        if (passwordHashingService.matches(newPassword, member.getPassword())) {
             log.warn("현재 비밀번호와 동일한 비밀번호로 변경 시도 - memberId: {}", member.getId());
             throw new MemberException(MemberErrorCode.SAME_PASSWORD);
         }
         
         // 비밀번호 변경
-        String encodedNewPassword = passwordEncoder.encode(newPassword);
+        String encodedNewPassword = passwordHashingService.encode(newPassword);
         member.updatePassword(encodedNewPassword);
         Member savedMember = memberRepository.save(member);
+        memberSnapshotCache.evict(savedMember.getId());
         
         // 비밀번호 변경용 인증 플래그 삭제
         emailVerificationService.removePasswordResetVerifiedFlag(email);
@@ -257,43 +283,81 @@ public class MemberCommandService {
         log.info("프로필 이미지 업로드 시작 - memberId: {}, 파일명: {}, 크기: {}bytes", 
                 member.getId(), imageFile.getOriginalFilename(), imageFile.getSize());
 
-        try {
-            // 기존 프로필 이미지가 있다면 삭제
-            String existingImageUrl = member.getProfileImageUrl();
-            if (existingImageUrl != null && !existingImageUrl.trim().isEmpty()) {
-                String existingKey = extractS3KeyFromUrl(existingImageUrl);
-                if (existingKey != null) {
-                    try {
-                        s3Service.deleteFile(existingKey);
-                        log.info("기존 프로필 이미지 삭제 완료 - key: {}", existingKey);
-                    } catch (Exception e) {
-                        log.warn("기존 프로필 이미지 삭제 실패 - key: {}, error: {}", existingKey, e.getMessage());
-                    }
-                }
-            }
+        String imageKey = ImageValidationUtil.generateProfileImageKey(member.getId(), imageFile.getOriginalFilename());
+        return replaceProfileImage(member, imageKey, () -> s3Service.uploadFile(imageFile, imageKey));
+    }
+
+    // 요청 본문(이미지 바이트)을 스프링 multipart 로 저장하지 않고 바로 S3 로 흘려보낸다
+    public MemberResponseDTO.UploadProfileImage uploadProfileImageStream(Member member, InputStream body,
+                                                                         String contentType, long contentLength) {
+        String extension = ImageValidationUtil.validateImageStream(contentType, contentLength);
 
-            // 새 이미지 업로드
-            String imageKey = ImageValidationUtil.generateProfileImageKey(member.getId(), imageFile.getOriginalFilename());
-            String imageUrl = s3Service.uploadFile(imageFile, imageKey);
-            
-            // 회원 정보 업데이트
-            member.updateProfileImageUrl(imageUrl);
-            Member savedMember = memberRepository.save(member);
-            
-            log.info("프로필 이미지 업로드 완료 - memberId: {}, imageUrl: {}", 
-                    savedMember.getId(), imageUrl);
+        log.info("프로필 이미지 스트리밍 업로드 시작 - memberId: {}, Content-Type: {}, 크기: {}bytes",
+                member.getId(), contentType, contentLength);
+
+        String imageKey = ImageValidationUtil.generateProfileImageKey(member.getId(), "profile." + extension);
+        return replaceProfileImage(member, imageKey, () -> s3Service.uploadStream(body, imageKey, contentType,
+                ImageValidationUtil.MAX_FILE_SIZE,
+                uploaded -> log.debug("프로필 이미지 업로드 진행 - memberId: {}, {}bytes", member.getId(), uploaded)));
+    }
 
-            return MemberResponseDTO.UploadProfileImage.builder()
-                    .memberId(savedMember.getId())
-                    .profileImageUrl(imageUrl)
-                    .message("프로필 이미지가 성공적으로 업데이트되었습니다")
-                    .uploadedAt(LocalDateTime.now())
-                    .build();
+    private MemberResponseDTO.UploadProfileImage replaceProfileImage(Member member, String imageKey,
+                                                                     Callable<String> upload) {
+        String existingImageUrl = member.getProfileImageUrl();
 
+        // 1. 새 이미지를 먼저 S3 에 올린다 (DB 커넥션 없이)
+        String imageUrl;
+        try {
+            imageUrl = upload.call();
+        } catch (GeneralException e) {
+            throw e;
         } catch (Exception e) {
             log.error("프로필 이미지 업로드 실패 - memberId: {}, error: {}", member.getId(), e.getMessage(), e);
             throw new MemberException(MemberErrorCode.INVALID_IMAGE_FILE);
         }
+
+        // 2. 회원 정보 업데이트만 짧은 트랜잭션으로 처리. 실패하면 올린 이미지를 지워 되돌린다
+        Member savedMember;
+        try {
+            savedMember = transactionTemplate.execute(status -> {
+                member.updateProfileImageUrl(imageUrl);
+                Member saved = memberRepository.save(member);
+                memberSnapshotCache.evict(saved.getId(), saved.getProfileVersion());
+                return saved;
+            });
+        } catch (Exception e) {
+            log.error("프로필 이미지 정보 저장 실패, 업로드한 이미지 삭제 - memberId: {}, key: {}, error: {}",
+                    member.getId(), imageKey, e.getMessage(), e);
+            deleteQuietly(imageKey);
+            throw new MemberException(MemberErrorCode.INVALID_IMAGE_FILE);
+        }
+
+        // 3. 커밋된 뒤에 기존 이미지 삭제 (실패해도 응답에는 영향 없음)
+        if (existingImageUrl != null && !existingImageUrl.trim().isEmpty()) {
+            String existingKey = extractS3KeyFromUrl(existingImageUrl);
+            if (existingKey != null) {
+                deleteQuietly(existingKey);
+            }
+        }
+
+        log.info("프로필 이미지 업로드 완료 - memberId: {}, imageUrl: {}", 
+                savedMember.getId(), imageUrl);
+
+        return MemberResponseDTO.UploadProfileImage.builder()
+                .memberId(savedMember.getId())
+                .profileImageUrl(imageUrl)
+                .message("프로필 이미지가 성공적으로 업데이트되었습니다")
+                .uploadedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Service.deleteFile(key);
+            log.info("프로필 이미지 삭제 예약 - key: {}", key);
+        } catch (Exception e) {
+            log.warn("프로필 이미지 삭제 실패 - key: {}, error: {}", key, e.getMessage());
+        }
     }
 
     private String extractS3KeyFromUrl(String s3Url) {
@@ -314,6 +378,7 @@ public class MemberCommandService {
         }
     }
 
+    @Transactional
     public MemberResponseDTO.UpdateNickname updateNickname(Member member, MemberRequestDTO.UpdateNickname request) {
         String newNickname = request.getNickname();
         
@@ -337,6 +402,7 @@ public class MemberCommandService {
         // 닉네임 업데이트
         member.updateNickname(newNickname);
         Member savedMember = memberRepository.save(member);
+        memberSnapshotCache.evict(savedMember.getId(), savedMember.getProfileVersion());
         
         log.info("닉네임 변경 완료 - memberId: {}, nickname: {}", 
                 savedMember.getId(), savedMember.getNickname());
@@ -1,22 +1,29 @@
 package com.clody.domain.ootd.controller;
 
-import com.clody.domain.member.entity.Member;
+import com.clody.domain.hashtag.entity.HashtagMatchMode;
 import com.clody.domain.ootd.dto.OotdRequestDTO;
 import com.clody.domain.ootd.dto.OotdResponseDTO;
 import com.clody.domain.ootd.service.ootdCommandService.OotdCommandService;
 import com.clody.domain.ootd.service.ootdQueryService.OotdQueryService;
+import com.clody.domain.ootd.service.ootdRecommendService.OotdRecommendService;
 import com.clody.global.apiPayload.ApiResponse;
+import com.clody.global.auth.AuthPrincipal;
 import com.clody.global.auth.CurrentUser;
+import com.clody.global.auth.MemberSnapshot;
 import com.clody.global.s3.dto.S3UrlResponseDTO;
+import com.clody.global.s3.service.S3ObjectStreamer;
 import com.clody.global.s3.service.S3Service;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -26,8 +33,10 @@ import java.util.List;
 @Tag(name = "ootd 관련 API", description = "ootd 관련 API입니다.")
 public class OotdController {
     private final S3Service s3Service;
+    private final S3ObjectStreamer s3ObjectStreamer;
     private final OotdQueryService ootdQueryService;
     private final OotdCommandService ootdCommandService;
+    private final OotdRecommendService ootdRecommendService;
 
     @GetMapping("/upload-url")
     @Operation(summary = "Ootd 이미지 업로드 Presigned URL 요청 API", description = "ootd 생성 전에 이미지 먼저 업로드 하신 뒤, 반환된 key를 ootd 생성시에 넘겨주시면 됩니다.")
@@ -40,19 +49,21 @@ public class OotdController {
     @PostMapping("/create")
     @Operation(summary = "ootd 생성 API", description = "ootd를 생성하는 API입니다.")
     public ResponseEntity<ApiResponse<OotdResponseDTO.getOotdDTO>> createOotd(
-            @Valid @RequestBody OotdRequestDTO.CreateOotdDTO request, @CurrentUser Member member){
+            @Valid @RequestBody OotdRequestDTO.CreateOotdDTO request, @CurrentUser MemberSnapshot member){
         OotdResponseDTO.getOotdDTO result=ootdCommandService.createOotd(request, member);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
     @GetMapping("/community")
-    @Operation(summary = "ootd 둘러보기 API", description = "ootd 둘러보기 API입니다.")
+    @Operation(summary = "ootd 둘러보기 API", description = "ootd 둘러보기 API입니다. match=ALL 이면 선택한 해시태그를 모두 가진 ootd만 조회합니다.")
     public ResponseEntity<ApiResponse<OotdResponseDTO.getCommunityOotdListDTO>> getCommunity(
             @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false, name = "hashtags") List<String> hashtagsKorean
+            @RequestParam(required = false, name = "hashtags") List<String> hashtagsKorean,
+            @RequestParam(defaultValue = "ANY") HashtagMatchMode match,
+            @CurrentUser AuthPrincipal member
     ) {
-        OotdResponseDTO.getCommunityOotdListDTO result = ootdQueryService.getCommunityOotds(cursor, size, hashtagsKorean);
+        OotdResponseDTO.getCommunityOotdListDTO result = ootdQueryService.getCommunityOotds(cursor, size, hashtagsKorean, match, member.getMemberId());
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
@@ -63,12 +74,20 @@ public class OotdController {
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
+    @GetMapping("/community/{ootdId}/image")
+    @Operation(summary = "ootd 이미지 다운로드 API", description = "ootd 상세 이미지를 서버를 통해 내려받습니다. Range, If-None-Match 요청을 지원합니다.")
+    public void getCommunityOotdImage(@PathVariable Long ootdId,
+                                      HttpServletRequest request,
+                                      HttpServletResponse response) throws IOException {
+        s3ObjectStreamer.stream(ootdQueryService.getImageKey(ootdId), request, response);
+    }
+
     @GetMapping("/month")
     @Operation(summary = "개인 월별 ootd 조회 API", description = "개인 월별 ootd 리스트를 조회하는 API입니다.")
     public ResponseEntity<ApiResponse<OotdResponseDTO.getMonthlyOotdListDTO>> getMonthlyOotd(@RequestParam int year,
                                                                                              @RequestParam int month,
-                                                                                             @CurrentUser Member member){
-        OotdResponseDTO.getMonthlyOotdListDTO result=ootdQueryService.getMonthlyOotds(year,month,member.getId());
+                                                                                             @CurrentUser AuthPrincipal member){
+        OotdResponseDTO.getMonthlyOotdListDTO result=ootdQueryService.getMonthlyOotds(year,month,member.getMemberId());
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
     @GetMapping("/month/{ootdId}")
@@ -83,8 +102,20 @@ public class OotdController {
     public ResponseEntity<ApiResponse<OotdResponseDTO.getSimilarOotdListDTO>> getSimilarOotd(@RequestParam int minTemp,
                                                                                              @RequestParam int maxTemp,
                                                                                              @RequestParam boolean rain,
-                                                                                             @CurrentUser Member member){
-        OotdResponseDTO.getSimilarOotdListDTO result=ootdQueryService.getRandomSimilarOotds(minTemp, maxTemp, rain, member.getId());
+                                                                                             @CurrentUser AuthPrincipal member){
+        OotdResponseDTO.getSimilarOotdListDTO result=ootdQueryService.getRandomSimilarOotds(minTemp, maxTemp, rain, member.getMemberId());
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
+
+    @GetMapping("/similar-weather")
+    @Operation(summary = "비슷한 날씨 다른 사람 ootd 조회 API", description = "최저/최고 기온, 습도, 비 여부가 가장 비슷한 날의 다른 사람(공개 계정) ootd를 가까운 순으로 조회하는 API입니다.")
+    public ResponseEntity<ApiResponse<OotdResponseDTO.getSimilarOotdListDTO>> getSimilarWeatherOotd(@RequestParam int minTemp,
+                                                                                                    @RequestParam int maxTemp,
+                                                                                                    @RequestParam int humidity,
+                                                                                                    @RequestParam boolean rain,
+                                                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                                                    @CurrentUser AuthPrincipal member){
+        OotdResponseDTO.getSimilarOotdListDTO result=ootdRecommendService.getSimilarWeatherOotds(minTemp, maxTemp, humidity, rain, size, member.getMemberId());
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
@@ -1,36 +1,55 @@
 package com.clody.domain.ootd.controller;
 
-import com.clody.domain.member.entity.Member;
 import com.clody.domain.ootd.dto.OotdLikeResponseDTO;
 import com.clody.domain.ootd.service.ootdLikeCommandService.OotdLikeCommandService;
 import com.clody.domain.ootd.service.ootdLikeQueryService.OotdLikeQueryService;
+import com.clody.global.auth.AuthPrincipal;
 import com.clody.global.auth.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
-@RequestMapping("/ootd/{ootdId}/likes")
+@RequestMapping("/ootd")
 public class OotdLikeController {
 
     private final OotdLikeCommandService commandService;
+    private final OotdLikeQueryService queryService;
 
     @Operation(summary = "좋아요 생성", description = "좋아요 생성")
-    @PutMapping("/like")
+    @PutMapping("/{ootdId}/likes/like")
     public ResponseEntity<?> like(@PathVariable Long ootdId,
-                                  @CurrentUser Member memeber) {
-        OotdLikeResponseDTO.StateDTO result = commandService.like(ootdId, memeber.getId());
+                                  @CurrentUser AuthPrincipal memeber) {
+        OotdLikeResponseDTO.StateDTO result = commandService.like(ootdId, memeber.getMemberId());
         return ResponseEntity.ok(result);
     }
 
     @Operation(summary = "좋아요 취소", description = "좋아요 취소, 이미 취소 상태여도 가능")
-    @DeleteMapping("/unlike")
+    @DeleteMapping("/{ootdId}/likes/unlike")
     public ResponseEntity<?> unlike(@PathVariable Long ootdId,
-                                    @CurrentUser Member memeber) {
-        OotdLikeResponseDTO.StateDTO result = commandService.unlike(ootdId, memeber.getId());
+                                    @CurrentUser AuthPrincipal memeber) {
+        OotdLikeResponseDTO.StateDTO result = commandService.unlike(ootdId, memeber.getMemberId());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "좋아요 상태 조회", description = "내가 좋아요 눌렀는지 + 좋아요 수")
+    @GetMapping("/{ootdId}/likes/state")
+    public ResponseEntity<?> state(@PathVariable Long ootdId,
+                                   @CurrentUser AuthPrincipal member) {
+        OotdLikeResponseDTO.StateDTO result = queryService.state(ootdId, member.getMemberId());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "좋아요 상태 일괄 조회", description = "여러 ootd 에 대해 내가 좋아요 눌렀는지 한 번에 조회")
+    @GetMapping("/likes/state")
+    public ResponseEntity<?> states(@RequestParam List<Long> ootdIds,
+                                    @CurrentUser AuthPrincipal member) {
+        OotdLikeResponseDTO.LikedStatesDTO result = queryService.likedStates(member.getMemberId(), ootdIds);
         return ResponseEntity.ok(result);
     }
 
-}
\ No newline at end of file
+}
@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Map;
+
 public class OotdLikeResponseDTO {
     @Getter
     @AllArgsConstructor
@@ -18,6 +20,14 @@ public class OotdLikeResponseDTO {
         private long likeCount;
     }
 
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "여러 ootd 에 대한 내 좋아요 여부 응답 (ootdId -> 좋아요 여부)")
+    public static class LikedStatesDTO {
+        @Schema(example = "{\"12\": true, \"11\": false}")
+        private Map<Long, Boolean> liked;
+    }
+
     @Getter
     @AllArgsConstructor
     @Schema(description = "좋아요 수만 응답")
@@ -17,6 +17,7 @@ public class OotdResponseDTO {
         private String image;
         private List<String> hashtags;
         private Long commentCount;
+        private Boolean liked;
         private LocalDateTime createdAt;
     }
 
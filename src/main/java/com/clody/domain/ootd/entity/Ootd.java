@@ -15,7 +15,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "ootd")
+@Table(name = "ootd",
+        indexes = {
+                @Index(name = "idx_ootd_member_rain_avg_temp", columnList = "member_id, is_rain, avg_temperature, id"),
+                // id 역순 피드를 훑으면서 마스크 조건을 인덱스만으로 거를 수 있도록 함께 둔다
+                @Index(name = "idx_ootd_id_hashtag_mask", columnList = "id DESC, hashtag_mask")
+        })
 public class Ootd extends BaseTimeEntity {
 
     @Id
@@ -42,6 +47,25 @@ public class Ootd extends BaseTimeEntity {
     @Column(name = "weather_description")
     private String weatherDescription;
 
+    // (최저 + 최고) / 2, 비슷한 기온 ootd 조회 인덱스용 DB 생성 컬럼
+    @Column(name = "avg_temperature", insertable = false, updatable = false,
+            columnDefinition = "integer GENERATED ALWAYS AS ((min_temperature + max_temperature) / 2) STORED")
+    private Integer avgTemperature;
+
+    // 해시태그 카테고리 비트마스크 (HashtagCategory.mask() 의 OR), 피드 필터링용 비정규화 컬럼
+    @Builder.Default
+    @Column(name = "hashtag_mask", nullable = false, columnDefinition = "integer default 0")
+    private int hashtagMask = 0;
+
+    // 좋아요/댓글 수는 OotdCounterService 가 모아서 JDBC 로 반영하므로 엔티티 update 대상에서 제외
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long likeCount = 0L;
+
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long commentCount = 0L;
+
 
     @OneToOne(mappedBy = "ootd", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private OotdImage image;
@@ -19,6 +19,18 @@ public class OotdImage extends BaseTimeEntity {
     @Column(name = "key", nullable = false)
     private String key;
 
+    // 리사이즈본 key. 만들어지기 전(또는 실패 시)에는 null 이고 원본 key 를 대신 쓴다
+    @Column(name = "grid_key")
+    private String gridKey;
+
+    @Column(name = "detail_key")
+    private String detailKey;
+
+    // 리사이즈 시도 횟수. OotdImageRenditionService 의 재시도 한도 판단용
+    @Builder.Default
+    @Column(name = "rendition_attempts", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int renditionAttempts = 0;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ootd_id", nullable = false, unique = true) // 1:1 보장
     private Ootd ootd;
@@ -14,7 +14,8 @@ public enum OotdErrorCode implements BaseErrorCode {
 
     NOT_FOUND(HttpStatus.NOT_FOUND, "OOTD404", "해당 OOTD를 찾을 수 없습니다."),
     IO_FAIL(HttpStatus.BAD_REQUEST, "FILE400", "입력 파일이 문제가 있습니다."),
-    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "MEMBER404", "하드코딩된 멤버를 찾을 수 없습니다.")
+    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "MEMBER404", "하드코딩된 멤버를 찾을 수 없습니다."),
+    DETAIL_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "OOTD503", "OOTD 조회 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.")
     ;
 
     private final HttpStatus status;
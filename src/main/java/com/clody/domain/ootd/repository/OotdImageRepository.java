@@ -1,18 +1,46 @@
 package com.clody.domain.ootd.repository;
 
 import com.clody.domain.ootd.entity.OotdImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OotdImageRepository extends JpaRepository<OotdImage, Long> {
-    @Query("SELECT oi.key FROM OotdImage oi WHERE oi.ootd.id = :ootdId")
+    // 상세 화면용: detail 리사이즈본이 있으면 그것을, 없으면 원본
+    @Query("SELECT coalesce(oi.detailKey, oi.key) FROM OotdImage oi WHERE oi.ootd.id = :ootdId")
     Optional<String> findKeyByOotdId(Long ootdId);
 
+    // 리사이즈본이 아직 없는 이미지 (생성 직후 작업은 제외하고, 시도 횟수가 남은 것만)
+    @Query("""
+           select oi.id as id, oi.key as key
+           from OotdImage oi
+           where oi.gridKey is null and oi.renditionAttempts < :maxAttempts and oi.createdAt < :createdBefore
+           order by oi.id
+           """)
+    List<RenditionTargetView> findRenditionTargets(@Param("maxAttempts") int maxAttempts,
+                                                   @Param("createdBefore") LocalDateTime createdBefore,
+                                                   Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update OotdImage oi set oi.gridKey = :gridKey, oi.detailKey = :detailKey where oi.id = :id")
+    int updateRenditionKeys(@Param("id") Long id,
+                            @Param("gridKey") String gridKey,
+                            @Param("detailKey") String detailKey);
+
+    @Transactional
+    @Modifying
+    @Query("update OotdImage oi set oi.renditionAttempts = oi.renditionAttempts + 1 where oi.id = :id")
+    int incrementRenditionAttempts(@Param("id") Long id);
+
     @Query("""
            select oi.ootd.id as ootdId, oi.key as key
            from OotdImage oi
@@ -20,6 +48,11 @@ public interface OotdImageRepository extends JpaRepository<OotdImage, Long> {
            """)
     List<ImageKeyView> findKeysByOotdIds(@Param("ootdIds") Collection<Long> ootdIds);
 
+    interface RenditionTargetView {
+        Long getId();
+        String getKey();
+    }
+
     interface ImageKeyView {
         Long getOotdId();
         String getKey();
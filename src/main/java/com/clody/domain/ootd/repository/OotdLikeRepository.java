@@ -4,6 +4,8 @@ import com.clody.domain.ootd.entity.OotdLike;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OotdLikeRepository extends JpaRepository<OotdLike, Long> {
@@ -14,7 +16,10 @@ public interface OotdLikeRepository extends JpaRepository<OotdLike, Long> {
 
     long countByOotd_Id(Long ootdId);
 
+    @Query("select l.ootd.id from OotdLike l where l.member.id = :memberId and l.ootd.id in :ootdIds")
+    List<Long> findLikedOotdIds(@Param("memberId") Long memberId, @Param("ootdIds") Collection<Long> ootdIds);
+
     @Modifying
     @Query("delete from OotdLike l where l.ootd.id = :ootdId and l.member.id = :memberId")
-    void deleteByOotdIdAndMemberId(@Param("ootdId") Long ootdId, @Param("memberId") Long memberId);
+    int deleteByOotdIdAndMemberId(@Param("ootdId") Long ootdId, @Param("memberId") Long memberId);
 }
\ No newline at end of file
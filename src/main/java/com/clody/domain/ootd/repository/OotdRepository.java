@@ -1,7 +1,7 @@
 package com.clody.domain.ootd.repository;
 
 
-import com.clody.domain.hashtag.entity.HashtagCategory;
+import com.clody.domain.member.entity.AccountScope;
 import com.clody.domain.ootd.entity.Ootd;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,61 +14,182 @@ import java.util.List;
 import java.util.Optional;
 
 public interface OotdRepository extends JpaRepository<Ootd, Long> {
+    // 둘러보기 피드 한 페이지를 한 번의 쿼리로 조회 (id, 닉네임, 이미지 key, 해시태그 배열, 생성일)
+    // 해시태그 배열은 LIMIT 이후 반환되는 행에 대해서만 계산된다. 이미지는 grid 리사이즈본이 있으면 그것을 쓴다.
+    String FEED_SELECT = """
+        SELECT o.id AS id,
+               m.nickname AS nickname,
+               COALESCE(oi.grid_key, oi.key) AS image_key,
+               ARRAY(
+                   SELECT h.category
+                   FROM ootd_hashtag oh
+                   JOIN hashtag h ON h.id = oh.hashtag_id
+                   WHERE oh.ootd_id = o.id
+               ) AS hashtags,
+               o.created_at AS created_at
+        FROM ootd o
+        JOIN member m ON m.id = o.member_id
+        LEFT JOIN ootd_image oi ON oi.ootd_id = o.id
+        """;
+
     @Query("SELECT o FROM Ootd o WHERE o.member.id = :memberId AND o.createdAt BETWEEN :startOfMonth AND :endOfMonth")
     List<Ootd> findByMemberIdAndCreatedAtBetween(@Param("memberId") Long memberId,
                                                  @Param("startOfMonth") LocalDateTime startOfMonth,
                                                  @Param("endOfMonth") LocalDateTime endOfMonth);
 
+    // (avg_temperature, id) 순서의 임의 지점 4곳에서 각각 다음 1건을 인덱스 탐색으로 가져온다 (정렬/집계 없이 O(log n))
     @Query(value = """
-        SELECT o.id AS id,
-               oi.key AS image_key,
-               ARRAY_AGG(h.category) AS hashtags
+        SELECT DISTINCT p.id
+        FROM (VALUES (:t1, :f1), (:t2, :f2), (:t3, :f3), (:t4, :f4)) AS v(t, f)
+        CROSS JOIN LATERAL (
+            SELECT o.id
+            FROM ootd o
+            WHERE o.member_id = :memberId
+              AND o.is_rain = :rain
+              AND (o.avg_temperature, o.id) >= (v.t, CAST(v.f * (SELECT MAX(id) FROM ootd) AS BIGINT))
+              AND o.avg_temperature <= :maxTemp
+            ORDER BY o.avg_temperature, o.id
+            LIMIT 1
+        ) p
+        """, nativeQuery = true)
+    List<Long> findSimilarIdsFromPivots(@Param("memberId") Long memberId,
+                                        @Param("rain") boolean rain,
+                                        @Param("maxTemp") int maxTemp,
+                                        @Param("t1") int t1, @Param("f1") double f1,
+                                        @Param("t2") int t2, @Param("f2") double f2,
+                                        @Param("t3") int t3, @Param("f3") double f3,
+                                        @Param("t4") int t4, @Param("f4") double f4);
+
+    // 임의 지점이 범위 끝을 넘어간 경우를 위한 앞쪽부터의 조회
+    @Query(value = """
+        SELECT o.id
         FROM ootd o
-        JOIN ootd_image oi ON oi.ootd_id = o.id
-        JOIN ootd_hashtag oh ON oh.ootd_id = o.id
-        JOIN hashtag h ON h.id = oh.hashtag_id
         WHERE o.member_id = :memberId
-          AND ((o.min_temperature + o.max_temperature) / 2) BETWEEN :minTemp AND :maxTemp
           AND o.is_rain = :rain
-        GROUP BY o.id, oi.key
-        ORDER BY RANDOM()
-        LIMIT 4
+          AND o.avg_temperature BETWEEN :minTemp AND :maxTemp
+        ORDER BY o.avg_temperature, o.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findFirstSimilarIds(@Param("memberId") Long memberId,
+                                   @Param("rain") boolean rain,
+                                   @Param("minTemp") int minTemp,
+                                   @Param("maxTemp") int maxTemp,
+                                   @Param("limit") int limit);
+
+    // 샘플링된 id 가 이미지나 해시태그가 없다는 이유로 빠지지 않도록 LEFT JOIN 으로 채운다
+    @Query(value = """
+        SELECT o.id AS id,
+               COALESCE(oi.grid_key, oi.key) AS image_key,
+               ARRAY_REMOVE(ARRAY_AGG(h.category), NULL) AS hashtags
+        FROM ootd o
+        LEFT JOIN ootd_image oi ON oi.ootd_id = o.id
+        LEFT JOIN ootd_hashtag oh ON oh.ootd_id = o.id
+        LEFT JOIN hashtag h ON h.id = oh.hashtag_id
+        WHERE o.id IN (:ids)
+        GROUP BY o.id, oi.key, oi.grid_key
+        """, nativeQuery = true)
+    List<Object[]> findWithImageAndTagsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = FEED_SELECT + """
+        ORDER BY o.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findFirstPageAll(Pageable pageable);
+
+    @Query(value = FEED_SELECT + """
+        WHERE o.id < :cursor
+        ORDER BY o.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findNextPageAll(@Param("cursor") Long cursor, Pageable pageable);
+
+    // matchAll 이면 mask 의 모든 비트를, 아니면 하나 이상의 비트를 가진 ootd 만 남긴다
+    @Query(value = FEED_SELECT + """
+        WHERE CASE WHEN :matchAll THEN (o.hashtag_mask & :mask) = :mask
+                   ELSE (o.hashtag_mask & :mask) <> 0 END
+        ORDER BY o.id DESC
         """, nativeQuery = true)
-    List<Object[]> findRandomSimilarByMemberWithImageAndTags(
-            @Param("memberId") Long memberId,
-            @Param("minTemp") int minTemp,
-            @Param("maxTemp") int maxTemp,
-            @Param("rain") boolean rain
-    );
+    List<Object[]> findFirstPageByHashtagMask(@Param("mask") int mask,
+                                              @Param("matchAll") boolean matchAll,
+                                              Pageable pageable);
 
-    @Query("select o from Ootd o order by o.id desc")
-    List<Ootd> findFirstPageAll(Pageable pageable);
+    @Query(value = FEED_SELECT + """
+        WHERE o.id < :cursor
+          AND CASE WHEN :matchAll THEN (o.hashtag_mask & :mask) = :mask
+                   ELSE (o.hashtag_mask & :mask) <> 0 END
+        ORDER BY o.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findNextPageByHashtagMask(@Param("mask") int mask,
+                                             @Param("matchAll") boolean matchAll,
+                                             @Param("cursor") Long cursor,
+                                             Pageable pageable);
 
-    @Query("select o from Ootd o where o.id < :cursor order by o.id desc")
-    List<Ootd> findNextPageAll(@Param("cursor") Long cursor, Pageable pageable);
+    @Query(value = FEED_SELECT + """
+        WHERE o.id IN (:ids)
+        ORDER BY o.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findPageByIds(@Param("ids") Collection<Long> ids);
 
+    // 상세 조회용 헤더 (member 지연 로딩 없이 한 번에)
     @Query("""
-           select o from Ootd o
-           where exists (
-              select 1 from OotdHashtag oh join oh.hashtag h
-              where oh.ootd = o and h.category in :categories
-           )
-           order by o.id desc
+           select o.id as id, m.nickname as nickname, o.createdAt as createdAt, o.commentCount as commentCount
+           from Ootd o join o.member m
+           where o.id = :ootdId
            """)
-    List<Ootd> findFirstPageByCategories(@Param("categories") Collection<HashtagCategory> categories,
-                                         Pageable pageable);
+    Optional<OotdHeaderView> findHeaderById(@Param("ootdId") Long ootdId);
+
+    @Query("select o.likeCount from Ootd o where o.id = :ootdId")
+    Optional<Long> findLikeCountById(@Param("ootdId") Long ootdId);
+
+    @Query("select o.id from Ootd o order by o.id desc")
+    List<Long> findIdsFirstPage(Pageable pageable);
+
+    @Query("select o.id from Ootd o where o.id < :cursor order by o.id desc")
+    List<Long> findIdsNextPage(@Param("cursor") Long cursor, Pageable pageable);
 
+    // 해시태그 마스크 백필 대상 (id 오름차순 keyset)
+    @Query("select o.id from Ootd o where o.hashtagMask = 0 and o.id > :cursor order by o.id")
+    List<Long> findIdsWithoutHashtagMaskAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 날씨 추천 인덱스 적재용 (id 오름차순 keyset)
     @Query("""
-           select o from Ootd o
-           where o.id < :cursor
-             and exists (
-                select 1 from OotdHashtag oh join oh.hashtag h
-                where oh.ootd = o and h.category in :categories
-             )
-           order by o.id desc
+           select o.id as id, o.member.id as memberId,
+                  o.minTemperature as minTemperature, o.maxTemperature as maxTemperature,
+                  o.humidity as humidity, o.isRain as rain
+           from Ootd o
+           where o.member.accountScope = :scope and o.id > :cursor
+           order by o.id
            """)
-    List<Ootd> findNextPageByCategories(@Param("categories") Collection<HashtagCategory> categories,
-                                        @Param("cursor") Long cursor,
-                                        Pageable pageable);
+    List<WeatherPointView> findWeatherPointsAfter(@Param("scope") AccountScope scope,
+                                                  @Param("cursor") Long cursor,
+                                                  Pageable pageable);
+
+    @Query(value = """
+        SELECT o.id AS id,
+               COALESCE(oi.grid_key, oi.key) AS image_key,
+               ARRAY_REMOVE(ARRAY_AGG(h.category), NULL) AS hashtags
+        FROM ootd o
+        JOIN member m ON m.id = o.member_id
+        LEFT JOIN ootd_image oi ON oi.ootd_id = o.id
+        LEFT JOIN ootd_hashtag oh ON oh.ootd_id = o.id
+        LEFT JOIN hashtag h ON h.id = oh.hashtag_id
+        WHERE o.id IN (:ids)
+          AND m.account_scope = 'PUBLIC'
+        GROUP BY o.id, oi.key, oi.grid_key
+        """, nativeQuery = true)
+    List<Object[]> findPublicWithImageAndTagsByIds(@Param("ids") Collection<Long> ids);
+
+    interface OotdHeaderView {
+        Long getId();
+        String getNickname();
+        LocalDateTime getCreatedAt();
+        long getCommentCount();
+    }
 
+    interface WeatherPointView {
+        Long getId();
+        Long getMemberId();
+        int getMinTemperature();
+        int getMaxTemperature();
+        int getHumidity();
+        boolean getRain();
+    }
 }
@@ -1,9 +1,9 @@
 package com.clody.domain.ootd.service.ootdCommandService;
 
-import com.clody.domain.member.entity.Member;
 import com.clody.domain.ootd.dto.OotdRequestDTO;
 import com.clody.domain.ootd.dto.OotdResponseDTO;
+import com.clody.global.auth.MemberSnapshot;
 
 public interface OotdCommandService {
-    OotdResponseDTO.getOotdDTO createOotd(OotdRequestDTO.CreateOotdDTO request, Member member);
+    OotdResponseDTO.getOotdDTO createOotd(OotdRequestDTO.CreateOotdDTO request, MemberSnapshot member);
 }
@@ -13,10 +13,12 @@ import com.clody.domain.ootd.dto.OotdRequestDTO;
 import com.clody.domain.ootd.dto.OotdResponseDTO;
 import com.clody.domain.ootd.entity.Ootd;
 import com.clody.domain.ootd.entity.OotdImage;
-import com.clody.domain.ootd.exception.OotdErrorCode;
-import com.clody.domain.ootd.exception.OotdException;
 import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdImageRenditionService.OotdImageRenditionService;
+import com.clody.domain.ootd.service.ootdRecommendService.OotdRecommendService;
+import com.clody.domain.ootd.service.ootdTimelineService.OotdTimelineService;
 import com.clody.domain.ootdHashtag.entity.OotdHashtag;
+import com.clody.global.auth.MemberSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -31,10 +33,14 @@ public class OotdCommandServiceImpl implements OotdCommandService {
     private final HashtagRepository hashtagRepository;
     private final HashtagQueryService hashtagQueryService;
     private final MemberRepository memberRepository;
+    private final OotdTimelineService ootdTimelineService;
+    private final OotdRecommendService ootdRecommendService;
+    private final OotdImageRenditionService ootdImageRenditionService;
 
     @Override
-    public OotdResponseDTO.getOotdDTO createOotd(OotdRequestDTO.CreateOotdDTO request,Member member) {
-        Member currentMember = memberRepository.findById(member.getId()).orElseThrow(() -> new OotdException(OotdErrorCode.MEMBER_NOT_FOUND));
+    public OotdResponseDTO.getOotdDTO createOotd(OotdRequestDTO.CreateOotdDTO request, MemberSnapshot member) {
+        // 스냅샷으로 이미 존재가 확인된 회원이므로 FK 용 참조만 만든다 (조회 없음)
+        Member currentMember = memberRepository.getReferenceById(member.getId());
 
         List<String> rawTags = Optional.ofNullable(request.getHashtags()).orElseGet(List::of);
         if (rawTags.size() > 6) {
@@ -50,6 +56,7 @@ public class OotdCommandServiceImpl implements OotdCommandService {
                 .weatherDescription(request.getWeatherDescription())
                 .isRain(request.getRain())
                 .humidity(request.getHumidity())
+                .hashtagMask(HashtagCategory.maskOf(categories))
                 .build();
 
         if (request.getKey() != null && !request.getKey().isBlank()) {
@@ -68,13 +75,18 @@ public class OotdCommandServiceImpl implements OotdCommandService {
             ootd.getOotdHashtags().add(mapping);
         }
         Ootd saved = ootdRepository.save(ootd);
+        ootdTimelineService.append(saved.getId(), categories);
+        ootdRecommendService.add(saved, member.getAccountScope());
+        if (saved.getImage() != null) {
+            ootdImageRenditionService.request(saved.getImage().getId(), saved.getImage().getKey());
+        }
         List<String> hashtagDisplays = saved.getOotdHashtags().stream()
                 .map(oh -> oh.getHashtag().getCategory().getKoreanName())
                 .toList();
 
         return OotdResponseDTO.getOotdDTO.builder()
                 .id(saved.getId())
-                .nickname(saved.getMember().getNickname())
+                .nickname(member.getNickname())
                 .image(saved.getImage().getKey())
                 .hashtags(hashtagDisplays)
                 .createdAt(saved.getCreatedAt())
@@ -0,0 +1,93 @@
+package com.clody.domain.ootd.service.ootdCommandService;
+
+import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootdHashtag.repository.OotdHashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ootd_hashtag 기준으로 hashtag_mask 가 0 인 ootd 의 마스크를 채운다.
+ * 컬럼 추가 이전에 만들어진 ootd 는 mask 가 0 이므로, 완료 표시가 없으면 기동 시 자동으로 실행한다.
+ * mask = 0 인 행만 보므로 중간에 멈춰도 다음 기동 때 남은 부분부터 이어서 처리된다.
+ * --backfill-ootd-hashtag-mask 옵션으로 기동하면 완료 표시와 관계없이 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OotdHashtagMaskBackfillRunner implements ApplicationRunner {
+
+    private static final String BACKFILL_OPTION = "backfill-ootd-hashtag-mask";
+    private static final String DONE_KEY = "ootd_hashtag_mask:backfilled";
+    private static final int CHUNK_SIZE = 1000;
+    // 그사이 생성/수정으로 이미 채워진 마스크는 덮어쓰지 않는다
+    private static final String UPDATE_SQL = "update ootd set hashtag_mask = ? where id = ? and hashtag_mask = 0";
+
+    private final OotdRepository ootdRepository;
+    private final OotdHashtagRepository ootdHashtagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean forced = args.containsOption(BACKFILL_OPTION);
+        if (!forced && isDone()) {
+            return;
+        }
+        try {
+            backfill();
+            redisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 완료 표시를 남기지 않으므로 다음 기동 때 이어서 처리한다
+            log.error("ootd 해시태그 마스크 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isDone() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY));
+        } catch (Exception e) {
+            // 백필은 여러 번 돌아도 결과가 같으므로, 표시를 확인할 수 없으면 그냥 실행한다
+            log.warn("ootd 해시태그 마스크 백필 표시 확인 실패 - error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void backfill() {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        long cursor = 0L;
+        long total = 0;
+        long updated = 0;
+
+        while (true) {
+            List<Long> ids = ootdRepository.findIdsWithoutHashtagMaskAfter(cursor, chunk);
+            if (ids.isEmpty()) break;
+
+            // 해시태그가 없는 ootd 는 0 그대로 두어도 되므로 갱신 대상에서 뺀다
+            Map<Long, Integer> masks = new HashMap<>();
+            for (OotdHashtagRepository.OotdHashtagCategoryView v : ootdHashtagRepository.findCategoriesByOotdIds(ids)) {
+                masks.merge(v.getOotdId(), v.getCategory().mask(), (a, b) -> a | b);
+            }
+            if (!masks.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, masks.entrySet().stream()
+                        .map(e -> new Object[]{e.getValue(), e.getKey()})
+                        .toList());
+            }
+
+            total += ids.size();
+            updated += masks.size();
+            cursor = ids.get(ids.size() - 1);
+        }
+        log.info("ootd 해시태그 마스크 백필 완료 - 확인: {}건, 갱신: {}건", total, updated);
+    }
+}
@@ -0,0 +1,60 @@
+package com.clody.domain.ootd.service.ootdCounterService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * like_count / comment_count 를 원본 테이블 기준으로 다시 계산한다.
+ * 컬럼 추가 직후 첫 기동 시 자동으로 한 번 실행하고(여러 노드 중 먼저 표시를 남긴 노드만),
+ * --reconcile-ootd-counters 옵션으로 기동하면 강제로 다시 계산한다.
+ * 재계산하는 동안(ootd.counter.reconcile-quiesce-ms + 갱신 시간) 좋아요/댓글 쓰기가 잠기므로 강제 실행은 한산한 시간에 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OotdCounterReconcileRunner implements ApplicationRunner {
+
+    private static final String RECONCILE_OPTION = "reconcile-ootd-counters";
+    private static final String RECONCILED_KEY = "ootd_counter:reconciled";
+
+    private final OotdCounterService ootdCounterService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean forced = args.containsOption(RECONCILE_OPTION);
+        if (!forced && !claimFirstRun()) {
+            return;
+        }
+        try {
+            ootdCounterService.reconcile();
+        } catch (Exception e) {
+            log.error("ootd 카운터 재계산 실패: {}", e.getMessage(), e);
+            // 다음 기동 때 다시 시도하도록 표시를 지운다
+            releaseClaim();
+        }
+    }
+
+    private boolean claimFirstRun() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILED_KEY, String.valueOf(System.currentTimeMillis())));
+        } catch (Exception e) {
+            // 재계산은 여러 번 돌아도 결과가 같으므로, 표시를 확인할 수 없으면 그냥 실행한다
+            log.warn("ootd 카운터 재계산 표시 확인 실패 - error: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseClaim() {
+        try {
+            redisTemplate.delete(RECONCILED_KEY);
+        } catch (Exception e) {
+            log.warn("ootd 카운터 재계산 표시 삭제 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.clody.domain.ootd.service.ootdCounterService;
+
+import java.util.function.LongSupplier;
+
+public interface OotdCounterService {
+    void addLikes(Long ootdId, long delta);
+    void addComments(Long ootdId, long delta);
+    long likeCount(Long ootdId, LongSupplier persistedCount);
+    long commentCount(Long ootdId, LongSupplier persistedCount);
+    void flush();
+    void reconcile();
+}
@@ -0,0 +1,217 @@
+package com.clody.domain.ootd.service.ootdCounterService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * ootd 좋아요/댓글 수 write-behind 카운터.
+ * 변경분은 ootd 별 LongAdder 에 모았다가 주기적으로 ootd.like_count / comment_count 에 배치 반영하고,
+ * 조회는 COUNT(*) 대신 컬럼 값 + 아직 반영되지 않은 변경분으로 계산한다.
+ * 변경분을 떼어내는 동안과 반영 커밋부터 in-flight 를 비울 때까지는 version 이 홀수이고,
+ * 조회는 그 구간과 겹쳤으면 컬럼 값부터 다시 읽어 같은 변경분을 두 번 세거나 빠뜨리지 않는다 (잠금 없이 읽는다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OotdCounterServiceImpl implements OotdCounterService {
+
+    // 반영이 계속 겹쳐도 조회가 DB 를 무한히 다시 읽지 않도록 제한한다 (반영은 1초에 한 번, 수 ms 수준)
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private static final String RECONCILE_SQL = """
+            update ootd o
+            set like_count = (select count(*) from ootd_like l where l.ootd_id = o.id),
+                comment_count = (select count(*) from comment c where c.ootd_id = o.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 재계산 전에 모든 인스턴스가 쌓아 둔 변경분을 반영할 때까지 기다리는 시간 (flush 주기보다 충분히 길게)
+    @Value("${ootd.counter.reconcile-quiesce-ms:5000}")
+    private long reconcileQuiesceMs;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final DeltaTable likeDeltas =
+            new DeltaTable("update ootd set like_count = greatest(like_count + ?, 0) where id = ?");
+    private final DeltaTable commentDeltas =
+            new DeltaTable("update ootd set comment_count = greatest(comment_count + ?, 0) where id = ?");
+
+    @Override
+    public void addLikes(Long ootdId, long delta) {
+        afterCommit(() -> likeDeltas.add(ootdId, delta));
+    }
+
+    @Override
+    public void addComments(Long ootdId, long delta) {
+        afterCommit(() -> commentDeltas.add(ootdId, delta));
+    }
+
+    @Override
+    public long likeCount(Long ootdId, LongSupplier persistedCount) {
+        return read(likeDeltas, ootdId, persistedCount);
+    }
+
+    @Override
+    public long commentCount(Long ootdId, LongSupplier persistedCount) {
+        return read(commentDeltas, ootdId, persistedCount);
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${ootd.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        flush(likeDeltas);
+        flush(commentDeltas);
+    }
+
+    /**
+     * 원본 테이블 기준으로 카운터 컬럼을 다시 맞춘다 (최초 배포 시 백필, 드리프트 보정용).
+     * 다른 인스턴스에 남아 있는 변경분은 여기서 알 수 없으므로, 좋아요/댓글 행 쓰기를 SHARE 잠금으로 막은 뒤
+     * 그 전에 커밋된 행의 변경분이 모든 인스턴스에서 반영될 때까지 기다렸다가 센다.
+     * 잠금 동안에는 새 행도 변경분도 생기지 않으므로 재계산 뒤에 같은 행이 다시 더해지지 않는다.
+     * 이 인스턴스의 변경분도 스케줄러의 flush 가 반영하도록 flush 와 모니터를 공유하지 않는다.
+     */
+    @Override
+    public void reconcile() {
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("lock table ootd_like, comment in share mode");
+            try {
+                Thread.sleep(reconcileQuiesceMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("ootd 카운터 재계산 대기 중 인터럽트", e);
+            }
+            return jdbcTemplate.update(RECONCILE_SQL);
+        });
+        log.info("ootd 카운터 재계산 완료 - 대상: {}건", updated);
+    }
+
+    private long read(DeltaTable table, Long ootdId, LongSupplier persistedCount) {
+        long count = 0;
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long before = version.get();
+            count = persistedCount.getAsLong() + table.pending(ootdId);
+            if ((before & 1) == 0 && version.get() == before) break;
+        }
+        return Math.max(count, 0);
+    }
+
+    private void flush(DeltaTable table) {
+        List<Object[]> batch;
+        version.incrementAndGet();
+        try {
+            batch = table.drain();
+        } finally {
+            version.incrementAndGet();
+        }
+        if (batch.isEmpty()) return;
+
+        boolean committed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(table.sql, batch);
+                // 커밋 직전부터 in-flight 를 비울 때까지 읽은 값은 커밋 전후가 섞일 수 있다
+                version.incrementAndGet();
+            });
+            committed = true;
+        } catch (Exception e) {
+            // 반영 실패분은 다음 주기에 다시 시도
+            log.error("ootd 카운터 반영 실패 - 건수: {}, error: {}", batch.size(), e.getMessage(), e);
+        } finally {
+            if ((version.get() & 1) == 0) {
+                version.incrementAndGet();
+            }
+            try {
+                if (!committed) {
+                    table.restore(batch);
+                }
+                table.clearInFlight();
+            } finally {
+                version.incrementAndGet();
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class DeltaTable {
+        private final String sql;
+        private final ConcurrentHashMap<Long, LongAdder> live = new ConcurrentHashMap<>();
+        // drain 직후 늦게 들어온 증가분을 놓치지 않도록, 떼어낸 LongAdder 를 한 주기 더 보관했다가 다시 비운다 (조회에도 더한다)
+        private volatile Map<Long, LongAdder> retired = Map.of();
+        private volatile Map<Long, Long> inFlight = Map.of();
+
+        DeltaTable(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Long ootdId, long delta) {
+            live.computeIfAbsent(ootdId, id -> new LongAdder()).add(delta);
+        }
+
+        long pending(Long ootdId) {
+            LongAdder adder = live.get(ootdId);
+            LongAdder late = retired.get(ootdId);
+            long pending = (adder != null) ? adder.sum() : 0L;
+            pending += (late != null) ? late.sum() : 0L;
+            return pending + inFlight.getOrDefault(ootdId, 0L);
+        }
+
+        List<Object[]> drain() {
+            Map<Long, Long> sums = new HashMap<>();
+            retired.forEach((ootdId, adder) -> sums.merge(ootdId, adder.sumThenReset(), Long::sum));
+            Map<Long, LongAdder> nextRetired = new HashMap<>();
+            for (Long ootdId : live.keySet()) {
+                LongAdder adder = live.remove(ootdId);
+                if (adder != null) {
+                    sums.merge(ootdId, adder.sumThenReset(), Long::sum);
+                    nextRetired.put(ootdId, adder);
+                }
+            }
+            retired = nextRetired;
+            sums.values().removeIf(v -> v == 0L);
+            inFlight = sums;
+
+            List<Object[]> batch = new ArrayList<>(sums.size());
+            sums.forEach((ootdId, delta) -> batch.add(new Object[]{delta, ootdId}));
+            return batch;
+        }
+
+        void restore(List<Object[]> batch) {
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+        }
+
+        void clearInFlight() {
+            inFlight = Map.of();
+        }
+    }
+}
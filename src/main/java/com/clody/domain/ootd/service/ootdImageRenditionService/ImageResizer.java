@@ -0,0 +1,203 @@
+package com.clody.domain.ootd.service.ootdImageRenditionService;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+
+/**
+ * ImageIO 기반 축소/JPEG 인코딩.
+ * 큰 원본은 디코딩 단계에서부터 서브샘플링해 필요한 해상도 근처로만 읽어 메모리를 아낀다.
+ * ImageIO 는 EXIF Orientation 을 적용하지 않고 인코딩 결과에는 EXIF 가 남지 않으므로, 디코딩 시 픽셀을 직접 회전한다.
+ */
+final class ImageResizer {
+
+    private static final int ORIENTATION_NORMAL = 1;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * maxWidth x maxHeight 상자에 맞춘 크기 이상을 유지하는 선에서 서브샘플링하며 디코딩하고,
+     * EXIF Orientation 대로 회전해 보이는 방향의 이미지를 돌려준다. 읽을 수 없는 형식이면 null.
+     * 임시 파일 캐시 대신 메모리 캐시 스트림을 쓴다 (ImageIO 전역 설정은 건드리지 않음).
+     */
+    static BufferedImage decode(InputStream source, int maxWidth, int maxHeight) throws IOException {
+        try (ImageInputStream in = new MemoryCacheImageInputStream(source)) {
+            int orientation = readOrientation(in);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                // 5~8 은 가로세로가 바뀌므로 보이는 방향 기준으로 배율을 구한다
+                boolean swapsAxes = orientation >= 5;
+                int displayWidth = swapsAxes ? reader.getHeight(0) : reader.getWidth(0);
+                int displayHeight = swapsAxes ? reader.getWidth(0) : reader.getHeight(0);
+                int factor = Math.max(1, Math.max(displayWidth / Math.max(1, maxWidth),
+                        displayHeight / Math.max(1, maxHeight)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (factor > 1) {
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                }
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지해 maxWidth x maxHeight 안에 들어가도록 줄인다. 투명 영역은 흰 배경으로 채운다 (JPEG 출력용).
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인다.
+     */
+    static BufferedImage resize(BufferedImage source, int maxWidth, int maxHeight) {
+        double scale = Math.min(1.0, Math.min((double) maxWidth / source.getWidth(),
+                (double) maxHeight / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG 의 APP1(Exif) 세그먼트에서 Orientation(1~8) 을 읽는다. JPEG 가 아니거나 태그가 없으면 1.
+     * 스트림 위치와 바이트 순서는 원래대로 돌려놓는다.
+     */
+    static int readOrientation(ImageInputStream in) throws IOException {
+        ByteOrder order = in.getByteOrder();
+        in.mark();
+        try {
+            in.setByteOrder(ByteOrder.BIG_ENDIAN);
+            if (in.readUnsignedShort() != 0xFFD8) return ORIENTATION_NORMAL;
+            while (true) {
+                int marker = in.readUnsignedShort();
+                // SOS 이후는 압축 데이터이므로 Exif 는 그 앞에만 있다
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) return ORIENTATION_NORMAL;
+                int length = in.readUnsignedShort();
+                long next = in.getStreamPosition() + length - 2;
+                // "Exif\0\0"
+                if (marker == 0xFFE1 && length >= 8 && in.readInt() == 0x45786966 && in.readUnsignedShort() == 0) {
+                    return readTiffOrientation(in);
+                }
+                in.seek(next);
+            }
+        } catch (EOFException e) {
+            return ORIENTATION_NORMAL;
+        } finally {
+            in.reset();
+            in.setByteOrder(order);
+        }
+    }
+
+    // TIFF 헤더 + IFD0 에서 Orientation 태그만 찾는다
+    private static int readTiffOrientation(ImageInputStream in) throws IOException {
+        long tiffStart = in.getStreamPosition();
+        int byteOrder = in.readUnsignedShort();
+        if (byteOrder == 0x4949) {
+            in.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        } else if (byteOrder != 0x4D4D) {
+            return ORIENTATION_NORMAL;
+        }
+        if (in.readUnsignedShort() != 42) return ORIENTATION_NORMAL;
+
+        in.seek(tiffStart + in.readUnsignedInt());
+        int entries = in.readUnsignedShort();
+        for (int i = 0; i < entries; i++) {
+            int tag = in.readUnsignedShort();
+            in.skipBytes(6); // type, count
+            if (tag == EXIF_ORIENTATION_TAG) {
+                // SHORT 값은 4바이트 값 영역의 앞 2바이트에 들어 있다
+                int value = in.readUnsignedShort();
+                return value >= 1 && value <= 8 ? value : ORIENTATION_NORMAL;
+            }
+            in.skipBytes(4);
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    /**
+     * EXIF Orientation 대로 픽셀을 옮긴다. 90도 단위 변환이므로 최근접 보간으로도 손실이 없다.
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00*x + m01*y + m02, y' = m10*x + m11*y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 좌우 반전 후 반시계 90도
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 좌우 반전 후 시계 90도
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 90도
+            default -> null;
+        };
+        if (transform == null) return source;
+
+        boolean swapsAxes = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapsAxes ? h : w, swapsAxes ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+}
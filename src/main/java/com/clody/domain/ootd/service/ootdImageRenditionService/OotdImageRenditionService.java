@@ -0,0 +1,10 @@
+package com.clody.domain.ootd.service.ootdImageRenditionService;
+
+public interface OotdImageRenditionService {
+
+    // 원본 이미지의 grid/detail 리사이즈본 생성을 예약한다 (커밋 이후 비동기)
+    void request(Long ootdImageId, String key);
+
+    // 리사이즈본이 없는 이미지를 찾아 다시 예약한다
+    int sweep();
+}
@@ -0,0 +1,185 @@
+package com.clody.domain.ootd.service.ootdImageRenditionService;
+
+import com.clody.domain.ootd.repository.OotdImageRepository;
+import com.clody.global.s3.service.S3Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ootd 이미지 리사이즈 파이프라인.
+ * 원본은 클라이언트가 presigned PUT 으로 직접 올리므로, ootd 생성 후 워커가 원본을 받아 grid(피드)/detail(상세)
+ * 크기의 JPEG 를 만들어 renditions/ 아래에 올리고 OotdImage 에 key 를 기록한다.
+ * CPU 를 쓰는 디코딩/인코딩은 크기가 정해진 풀에서만 돌리고, 대기열이 차서 밀린 작업이나 실패한 작업은
+ * 주기적인 sweep 이 다시 예약한다. 리사이즈본이 없는 동안에는 조회 쿼리가 원본 key 를 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OotdImageRenditionServiceImpl implements OotdImageRenditionService {
+
+    private static final String GRID_PREFIX = "renditions/grid/";
+    private static final String DETAIL_PREFIX = "renditions/detail/";
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final OotdImageRepository ootdImageRepository;
+    private final S3Service s3Service;
+
+    @Value("${ootd.rendition.grid-width:400}")
+    private int gridWidth;
+
+    @Value("${ootd.rendition.detail-width:1080}")
+    private int detailWidth;
+
+    // 세로로 긴 이미지가 폭 기준만으로는 과하게 커지지 않도록 높이도 제한한다
+    @Value("${ootd.rendition.grid-max-height:800}")
+    private int gridMaxHeight;
+
+    @Value("${ootd.rendition.detail-max-height:1920}")
+    private int detailMaxHeight;
+
+    @Value("${ootd.rendition.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${ootd.rendition.pool-size:0}")
+    private int poolSize;
+
+    @Value("${ootd.rendition.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${ootd.rendition.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ootd.rendition.sweep-batch-size:50}")
+    private int sweepBatchSize;
+
+    private ThreadPoolExecutor executor;
+    // 같은 이미지가 요청과 sweep 으로 두 번 처리되지 않도록
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        // 기본값: 코어 수의 절반 (최소 1)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ootd-rendition-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void request(Long ootdImageId, String key) {
+        afterCommit(() -> submit(ootdImageId, key));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${ootd.rendition.sweep-interval-ms:60000}",
+            fixedDelayString = "${ootd.rendition.sweep-interval-ms:60000}")
+    public int sweep() {
+        // 방금 생성되어 아직 처리 중일 수 있는 이미지는 건너뛴다
+        List<OotdImageRepository.RenditionTargetView> targets = ootdImageRepository.findRenditionTargets(maxAttempts, LocalDateTime.now().minusMinutes(1),
+                PageRequest.of(0, sweepBatchSize));
+        int submitted = 0;
+        for (OotdImageRepository.RenditionTargetView target : targets) {
+            if (submit(target.getId(), target.getKey())) submitted++;
+        }
+        if (submitted > 0) {
+            log.info("ootd 이미지 리사이즈 재예약 - {}건", submitted);
+        }
+        return submitted;
+    }
+
+    private boolean submit(Long ootdImageId, String key) {
+        if (!inFlight.add(ootdImageId)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    render(ootdImageId, key);
+                } finally {
+                    inFlight.remove(ootdImageId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 참: 다음 sweep 에서 다시 시도
+            inFlight.remove(ootdImageId);
+            log.warn("ootd 이미지 리사이즈 대기열 초과 - ootdImageId: {}", ootdImageId);
+            return false;
+        }
+    }
+
+    private void render(Long ootdImageId, String key) {
+        // 처리 중 죽어도 시도 횟수가 남도록 먼저 올린다
+        ootdImageRepository.incrementRenditionAttempts(ootdImageId);
+        try {
+            BufferedImage source;
+            try (InputStream original = s3Service.openStream(key)) {
+                source = ImageResizer.decode(original, detailWidth, detailMaxHeight);
+            }
+            if (source == null) {
+                // ImageIO 가 읽지 못하는 형식(WebP 등)은 원본을 그대로 쓴다
+                log.warn("ootd 이미지 리사이즈 불가 형식 - ootdImageId: {}, key: {}", ootdImageId, key);
+                return;
+            }
+
+            String detailKey = upload(source, key, DETAIL_PREFIX, detailWidth, detailMaxHeight);
+            String gridKey = upload(source, key, GRID_PREFIX, gridWidth, gridMaxHeight);
+            ootdImageRepository.updateRenditionKeys(ootdImageId, gridKey, detailKey);
+
+            log.debug("ootd 이미지 리사이즈 완료 - ootdImageId: {}, grid: {}, detail: {}", ootdImageId, gridKey, detailKey);
+        } catch (Exception e) {
+            log.error("ootd 이미지 리사이즈 실패 - ootdImageId: {}, key: {}, error: {}",
+                    ootdImageId, key, e.getMessage(), e);
+        }
+    }
+
+    // 원본이 이미 목표 크기 이하면 새로 만들지 않고 원본 key 를 쓴다 (원본은 EXIF 를 그대로 갖고 있어 브라우저가 회전한다)
+    private String upload(BufferedImage source, String key, String prefix, int width, int maxHeight) throws IOException {
+        if (source.getWidth() <= width && source.getHeight() <= maxHeight && key.toLowerCase().matches(".*\\.jpe?g$")) {
+            return key;
+        }
+        byte[] jpeg = ImageResizer.encodeJpeg(ImageResizer.resize(source, width, maxHeight), jpegQuality);
+        String renditionKey = prefix + key + ".jpg";
+        s3Service.uploadBytes(jpeg, renditionKey, CONTENT_TYPE);
+        return renditionKey;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
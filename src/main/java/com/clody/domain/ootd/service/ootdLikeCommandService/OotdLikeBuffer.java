@@ -0,0 +1,196 @@
+package com.clody.domain.ootd.service.ootdLikeCommandService;
+
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 좋아요/취소 요청을 (ootdId, memberId) 단위로 모아 마지막 상태만 DB 에 반영하는 버퍼.
+ * 요청은 Redis 해시에 먼저 기록(재시작 시 복구용)한 뒤 바로 응답하고,
+ * 주기적으로 순수 insert / delete 만 JDBC 배치로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OotdLikeBuffer {
+
+    private static final String PENDING_KEY = "ootd_like:pending";
+
+    private static final String INSERT_SQL = """
+            insert into ootd_like (ootd_id, member_id, created_at)
+            select ?, ?, now()
+            where exists (select 1 from ootd where id = ?)
+            on conflict (ootd_id, member_id) do nothing
+            """;
+    private static final String DELETE_SQL = "delete from ootd_like where ootd_id = ? and member_id = ?";
+
+    // 반영이 끝난 항목 중 그사이 새 요청으로 바뀌지 않은 것만 삭제
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV, 2 do
+              if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                redis.call('HDEL', KEYS[1], ARGV[i])
+                removed = removed + 1
+              end
+            end
+            return removed
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final OotdCounterService ootdCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 카운터 재계산은 ootd_like 쓰기를 잠가 두므로, 그동안 스케줄러 스레드를 붙잡지 않고 다음 주기에 다시 시도한다
+    @Value("${ootd.like.lock-timeout-ms:1000}")
+    private long lockTimeoutMs;
+
+    private final Map<LikeKey, Intent> pending = new ConcurrentHashMap<>();
+
+    public void submit(Long ootdId, Long memberId, boolean liked) {
+        LikeKey key = new LikeKey(ootdId, memberId);
+        Intent intent = new Intent(liked, UUID.randomUUID().toString());
+        redisTemplate.opsForHash().put(PENDING_KEY, key.field(), intent.encode());
+        pending.put(key, intent);
+    }
+
+    // 아직 DB 에 반영되지 않은 마지막 요청 상태
+    public Optional<Boolean> pendingState(Long ootdId, Long memberId) {
+        Intent intent = pending.get(new LikeKey(ootdId, memberId));
+        return Optional.ofNullable(intent).map(Intent::liked);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            Map<Object, Object> stored = redisTemplate.opsForHash().entries(PENDING_KEY);
+            stored.forEach((field, value) ->
+                    pending.putIfAbsent(LikeKey.parse(field.toString()), Intent.decode(value.toString())));
+            if (!stored.isEmpty()) {
+                log.info("미반영 좋아요 요청 복구 - 건수: {}", stored.size());
+            }
+        } catch (Exception e) {
+            log.error("미반영 좋아요 요청 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${ootd.like.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Map.Entry<LikeKey, Intent>> snapshot = pending.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+
+        try {
+            // 다른 노드에서 더 최신 요청이 들어온 항목은 그 노드가 반영하도록 건너뛴다
+            List<Object> fields = snapshot.stream().map(e -> (Object) e.getKey().field()).toList();
+            List<Object> current = redisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+
+            List<Map.Entry<LikeKey, Intent>> inserts = new ArrayList<>();
+            List<Map.Entry<LikeKey, Intent>> deletes = new ArrayList<>();
+            for (int i = 0; i < snapshot.size(); i++) {
+                Map.Entry<LikeKey, Intent> e = snapshot.get(i);
+                Object stored = current.get(i);
+                if (stored != null && !e.getValue().encode().equals(stored.toString())) {
+                    pending.remove(e.getKey(), e.getValue());
+                    continue;
+                }
+                (e.getValue().liked() ? inserts : deletes).add(e);
+            }
+
+            applyBatch(inserts, INSERT_SQL, 1,
+                    k -> new Object[]{k.ootdId(), k.memberId(), k.ootdId()});
+            applyBatch(deletes, DELETE_SQL, -1,
+                    k -> new Object[]{k.ootdId(), k.memberId()});
+
+            List<String> args = new ArrayList<>();
+            for (Map.Entry<LikeKey, Intent> e : snapshot) {
+                pending.remove(e.getKey(), e.getValue());
+                args.add(e.getKey().field());
+                args.add(e.getValue().encode());
+            }
+            redisTemplate.execute(COMPARE_AND_DELETE, List.of(PENDING_KEY), args.toArray());
+        } catch (Exception e) {
+            // 버퍼는 그대로 두고 다음 주기에 다시 반영 (insert/delete 모두 멱등)
+            log.error("좋아요 버퍼 반영 실패 - 건수: {}, error: {}", snapshot.size(), e.getMessage(), e);
+        }
+    }
+
+    private void applyBatch(List<Map.Entry<LikeKey, Intent>> entries, String sql, int countDelta,
+                            Function<LikeKey, Object[]> toArgs) {
+        if (entries.isEmpty()) return;
+        List<Object[]> batchArgs = entries.stream().map(e -> toArgs.apply(e.getKey())).toList();
+        int[] affected;
+        try {
+            // 배치 전체를 한 트랜잭션으로 묶어, 실패하면 일부만 반영된 채 남지 않게 한다
+            affected = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("set local lock_timeout = " + lockTimeoutMs);
+                return jdbcTemplate.batchUpdate(sql, batchArgs);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 삭제된 회원 등 한 행 때문에 배치 전체가 막히지 않도록 한 건씩 다시 반영
+            log.warn("좋아요 배치 반영 실패, 개별 반영으로 재시도 - 건수: {}, error: {}", entries.size(), e.getMessage());
+            affected = applyOneByOne(entries, sql, batchArgs);
+        }
+        for (int i = 0; i < affected.length; i++) {
+            // 실제로 추가/삭제된 행만 좋아요 수에 반영
+            if (affected[i] > 0) {
+                ootdCounterService.addLikes(entries.get(i).getKey().ootdId(), countDelta);
+            }
+        }
+    }
+
+    // 제약 조건 위반 행은 다시 시도해도 실패하므로 버린다. 그 밖의 오류는 전파되어 버퍼 전체가 다음 주기에 재시도된다
+    private int[] applyOneByOne(List<Map.Entry<LikeKey, Intent>> entries, String sql, List<Object[]> batchArgs) {
+        int[] affected = new int[batchArgs.size()];
+        for (int i = 0; i < batchArgs.size(); i++) {
+            try {
+                affected[i] = jdbcTemplate.update(sql, batchArgs.get(i));
+            } catch (DataIntegrityViolationException e) {
+                log.error("좋아요 반영 불가 항목 폐기 - key: {}, intent: {}, error: {}",
+                        entries.get(i).getKey().field(), entries.get(i).getValue().encode(), e.getMessage());
+            }
+        }
+        return affected;
+    }
+
+    private record LikeKey(Long ootdId, Long memberId) {
+        String field() {
+            return ootdId + ":" + memberId;
+        }
+
+        static LikeKey parse(String field) {
+            String[] parts = field.split(":");
+            return new LikeKey(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+        }
+    }
+
+    private record Intent(boolean liked, String token) {
+        String encode() {
+            return (liked ? "1" : "0") + ":" + token;
+        }
+
+        static Intent decode(String value) {
+            int idx = value.indexOf(':');
+            return new Intent(value.startsWith("1"), value.substring(idx + 1));
+        }
+    }
+}
@@ -1,56 +1,42 @@
 package com.clody.domain.ootd.service.ootdLikeCommandService;
 
 
-import com.clody.domain.member.entity.Member;
-import com.clody.domain.member.repository.MemberRepository;
 import com.clody.domain.ootd.dto.OotdLikeResponseDTO;
-import com.clody.domain.ootd.entity.Ootd;
-import com.clody.domain.ootd.entity.OotdLike;
 import com.clody.domain.ootd.exception.OotdErrorCode;
 import com.clody.domain.ootd.exception.OotdException;
 import com.clody.domain.ootd.repository.OotdLikeRepository;
 import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class OotdLikeCommandServiceImpl implements OotdLikeCommandService {
     private final OotdRepository ootdRepository;
-    private final MemberRepository memberRepository;
-    private final OotdLikeRepository likeRepository;
+    private final OotdLikeRepository ootdLikeRepository;
+    private final OotdLikeBuffer ootdLikeBuffer;
+    private final OotdCounterService ootdCounterService;
 
-
-    @Transactional
+    // 요청은 버퍼에 기록하고 낙관적 상태를 바로 반환 (DB 반영과 좋아요 수 갱신은 버퍼 flush 시점)
     @Override
     public OotdLikeResponseDTO.StateDTO like(Long ootdId, Long memberId) {
-        Ootd ootd = ootdRepository.findById(ootdId)
-                .orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new OotdException(OotdErrorCode.MEMBER_NOT_FOUND));
-
-        if (!likeRepository.existsByOotd_IdAndMember_Id(ootdId, memberId)) {
-            try {
-                likeRepository.save(OotdLike.builder().ootd(ootd).member(member).build());
-            } catch (DataIntegrityViolationException ignore) { //동시 요청처리 무시
-            }
-        }
-        long count = likeRepository.countByOotd_Id(ootdId);
-        return new OotdLikeResponseDTO.StateDTO(true, count);
+        return toggle(ootdId, memberId, true);
     }
 
-    @Transactional
     @Override
     public OotdLikeResponseDTO.StateDTO unlike(Long ootdId, Long memberId) {
-        ootdRepository.findById(ootdId)
-                .orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND));
-        memberRepository.findById(memberId)
-                .orElseThrow(() -> new OotdException(OotdErrorCode.MEMBER_NOT_FOUND));
+        return toggle(ootdId, memberId, false);
+    }
 
-        likeRepository.deleteByOotdIdAndMemberId(ootdId, memberId);
-        long count = likeRepository.countByOotd_Id(ootdId);
-        return new OotdLikeResponseDTO.StateDTO(false, count);
+    private OotdLikeResponseDTO.StateDTO toggle(Long ootdId, Long memberId, boolean liked) {
+        long current = ootdCounterService.likeCount(ootdId, () -> ootdRepository.findLikeCountById(ootdId)
+                .orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND)));
+        boolean rowExists = ootdLikeRepository.existsByOotd_IdAndMember_Id(ootdId, memberId);
+        ootdLikeBuffer.submit(ootdId, memberId, liked);
+        // 좋아요 수는 DB 에 반영된 행 기준이므로, 요청자의 아직 반영되지 않은 변경(±1)을 더해 돌려준다
+        long delta = (liked ? 1 : 0) - (rowExists ? 1 : 0);
+        long count = Math.max(current + delta, 0);
+        return new OotdLikeResponseDTO.StateDTO(liked, count);
     }
 }
@@ -2,7 +2,13 @@ package com.clody.domain.ootd.service.ootdLikeQueryService;
 
 import com.clody.domain.ootd.dto.OotdLikeResponseDTO;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface OotdLikeQueryService {
     OotdLikeResponseDTO.StateDTO state(Long ootdId, Long memberId);
     OotdLikeResponseDTO.CountDTO count(Long ootdId);
+    Set<Long> likedOotdIds(Long memberId, Collection<Long> ootdIds);
+    OotdLikeResponseDTO.LikedStatesDTO likedStates(Long memberId, List<Long> ootdIds);
 }
@@ -2,26 +2,66 @@ package com.clody.domain.ootd.service.ootdLikeQueryService;
 
 import com.clody.domain.ootd.dto.OotdLikeResponseDTO;
 import com.clody.domain.ootd.repository.OotdLikeRepository;
+import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
+import com.clody.domain.ootd.service.ootdLikeCommandService.OotdLikeBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 public class OotdLikeQueryServiceImpl implements OotdLikeQueryService {
     private final OotdLikeRepository ootdLikeRepository;
+    private final OotdRepository ootdRepository;
+    private final OotdCounterService ootdCounterService;
+    private final OotdLikeBuffer ootdLikeBuffer;
 
     @Transactional(readOnly = true)
     @Override
     public OotdLikeResponseDTO.StateDTO state(Long ootdId, Long memberId) {
-        long count = ootdLikeRepository.countByOotd_Id(ootdId);
-        boolean liked = (memberId != null) && ootdLikeRepository.existsByOotd_IdAndMember_Id(ootdId, memberId);
+        long count = likeCount(ootdId);
+        boolean liked = (memberId != null) && ootdLikeBuffer.pendingState(ootdId, memberId)
+                .orElseGet(() -> ootdLikeRepository.existsByOotd_IdAndMember_Id(ootdId, memberId));
         return new OotdLikeResponseDTO.StateDTO(liked, count);
     }
 
     @Transactional(readOnly = true)
     @Override
     public OotdLikeResponseDTO.CountDTO count(Long ootdId) {
-        return new OotdLikeResponseDTO.CountDTO(ootdLikeRepository.countByOotd_Id(ootdId));
+        return new OotdLikeResponseDTO.CountDTO(likeCount(ootdId));
+    }
+
+    // 한 번의 쿼리로 여러 ootd 의 좋아요 여부를 조회하고, 아직 반영되지 않은 버퍼 상태를 덮어쓴다
+    @Transactional(readOnly = true)
+    @Override
+    public Set<Long> likedOotdIds(Long memberId, Collection<Long> ootdIds) {
+        if (memberId == null || ootdIds == null || ootdIds.isEmpty()) return Set.of();
+
+        Set<Long> liked = new HashSet<>(ootdLikeRepository.findLikedOotdIds(memberId, ootdIds));
+        for (Long ootdId : ootdIds) {
+            ootdLikeBuffer.pendingState(ootdId, memberId).ifPresent(pendingLiked -> {
+                if (pendingLiked) liked.add(ootdId);
+                else liked.remove(ootdId);
+            });
+        }
+        return liked;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public OotdLikeResponseDTO.LikedStatesDTO likedStates(Long memberId, List<Long> ootdIds) {
+        Set<Long> liked = likedOotdIds(memberId, ootdIds);
+        Map<Long, Boolean> states = new LinkedHashMap<>();
+        for (Long ootdId : ootdIds) {
+            states.put(ootdId, liked.contains(ootdId));
+        }
+        return new OotdLikeResponseDTO.LikedStatesDTO(states);
+    }
+
+    private long likeCount(Long ootdId) {
+        return ootdCounterService.likeCount(ootdId, () -> ootdRepository.findLikeCountById(ootdId).orElse(0L));
     }
 }
@@ -1,5 +1,6 @@
 package com.clody.domain.ootd.service.ootdQueryService;
 
+import com.clody.domain.hashtag.entity.HashtagMatchMode;
 import com.clody.domain.member.entity.Member;
 import com.clody.domain.ootd.dto.OotdResponseDTO;
 
@@ -7,7 +8,8 @@ import java.util.List;
 
 public interface OotdQueryService {
     OotdResponseDTO.getMonthlyOotdListDTO getMonthlyOotds(int year, int month,long memberId);
-    OotdResponseDTO.getCommunityOotdListDTO getCommunityOotds(Long cursor, int size, List<String> koreanTags);
+    OotdResponseDTO.getCommunityOotdListDTO getCommunityOotds(Long cursor, int size, List<String> koreanTags, HashtagMatchMode matchMode, Long memberId);
     OotdResponseDTO.getOotdDTO getOotd(Long ootdId);
+    String getImageKey(Long ootdId);
     OotdResponseDTO.getSimilarOotdListDTO getRandomSimilarOotds(int minTemp, int maxTemp, boolean rain,long memberId);
 }
@@ -1,8 +1,8 @@
 package com.clody.domain.ootd.service.ootdQueryService;
 
 
-import com.clody.domain.comment.service.commentQueryService.CommentQueryService;
 import com.clody.domain.hashtag.entity.HashtagCategory;
+import com.clody.domain.hashtag.entity.HashtagMatchMode;
 import com.clody.domain.hashtag.exception.HashtagErrorCode;
 import com.clody.domain.hashtag.exception.HashtagException;
 import com.clody.domain.hashtag.service.query.HashtagQueryService;
@@ -16,97 +16,113 @@ import com.clody.domain.ootd.exception.OotdErrorCode;
 import com.clody.domain.ootd.exception.OotdException;
 import com.clody.domain.ootd.repository.OotdImageRepository;
 import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
+import com.clody.domain.ootd.service.ootdLikeQueryService.OotdLikeQueryService;
+import com.clody.domain.ootd.service.ootdTimelineService.OotdTimelineService;
 import com.clody.domain.ootdHashtag.repository.OotdHashtagRepository;
 import com.clody.global.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OotdQueryServiceImpl implements OotdQueryService {
+    private static final int SIMILAR_SAMPLE_SIZE = 4;
+
     private final OotdRepository ootdRepository;
     private final OotdImageRepository ootdImageRepository;
     private final OotdHashtagRepository ootdHashtagRepository;
     private final HashtagQueryService hashtagQueryService;
     private final MemberRepository memberRepository;
     private final S3Service s3Service;
-    private final CommentQueryService commentQueryService;
+    private final OotdCounterService ootdCounterService;
+    private final OotdLikeQueryService ootdLikeQueryService;
+    private final OotdTimelineService ootdTimelineService;
+    private final ExecutorService virtualThreadExecutor;
+
+    // true 면 상세 조회의 독립적인 읽기를 가상 스레드에서 동시에 실행 (false: 순차 실행)
+    @Value("${ootd.detail.parallel:false}")
+    private boolean parallelDetail;
+
+    @Value("${ootd.detail.timeout-ms:2000}")
+    private long detailTimeoutMillis;
 
 
     /* ootd 둘러보기(전체 공개) */
-    public OotdResponseDTO.getCommunityOotdListDTO getCommunityOotds(Long cursor, int size, List<String> koreanTags) {
+    public OotdResponseDTO.getCommunityOotdListDTO getCommunityOotds(Long cursor, int size, List<String> koreanTags,
+                                                                     HashtagMatchMode matchMode, Long memberId) {
 
         List<HashtagCategory> categories =
                 (koreanTags == null || koreanTags.isEmpty())
                         ? List.of()
                         : hashtagQueryService.parseCategoryListOrThrow(koreanTags);
 
-        Pageable pageable = PageRequest.of(0, size + 1);
-        List<Ootd> page;
-        if (categories.isEmpty()) {
-            page = (cursor == null)
-                    ? ootdRepository.findFirstPageAll(pageable)
-                    : ootdRepository.findNextPageAll(cursor, pageable);
-        } else {
-            page = (cursor == null)
-                    ? ootdRepository.findFirstPageByCategories(categories, pageable)
-                    : ootdRepository.findNextPageByCategories(categories, cursor, pageable);
-        }
+        boolean matchAll = matchMode == HashtagMatchMode.ALL && categories.size() > 1;
 
-        boolean hasNext = page.size() > size;
-        if (hasNext) page = page.subList(0, size);
+        List<Object[]> page = null;
+        boolean hasNext = false;
+        Long nextCursor = null;
+        // 타임라인은 카테고리별 합집합(ANY)만 표현하므로 ALL 조건은 DB 비트마스크 조회로 처리
+        if (!matchAll && ootdTimelineService.isReady()) {
+            List<Long> ids = readTimelineIds(cursor, size + 1, categories);
+            if (ids != null) {
+                // 타임라인에서 id 범위만 읽고 해당 id 들만 DB 에서 채운다.
+                // 삭제되어 DB 에 없는 id 가 섞여 있어도 페이지 경계는 타임라인 id 기준으로 정한다
+                hasNext = ids.size() > size;
+                if (hasNext) ids = ids.subList(0, size);
+                nextCursor = hasNext ? ids.get(ids.size() - 1) : null;
+                page = ids.isEmpty() ? List.of() : ootdRepository.findPageByIds(ids);
+            }
+        }
+        if (page == null) {
+            page = findCommunityPageFromDb(cursor, size + 1, categories, matchAll);
+            hasNext = page.size() > size;
+            if (hasNext) page = page.subList(0, size);
+            nextCursor = hasNext ? ((Number) page.get(page.size() - 1)[0]).longValue() : null;
+        }
 
         if (page.isEmpty()) {
             return OotdResponseDTO.getCommunityOotdListDTO.builder()
                     .items(List.of())
-                    .nextCursor(null)
-                    .hasNext(false)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
                     .build();
         }
 
-        List<Long> ootdIds = page.stream().map(Ootd::getId).toList();
+        // row: [id, nickname, image_key, hashtags, created_at]
+        Map<String, String> presignedUrlMap = s3Service.getGetGeneratePresignedUrls(
+                page.stream().map(row -> (String) row[2]).toList());
 
-
-        Map<Long, String> imageKeyMap = ootdImageRepository.findKeysByOotdIds(ootdIds).stream()
-                .collect(Collectors.toMap(OotdImageRepository.ImageKeyView::getOotdId,
-                        OotdImageRepository.ImageKeyView::getKey));
-
-        Map<Long, String> presignedUrlMap = new HashMap<>();
-        for (Long id : ootdIds) {
-            String key = imageKeyMap.get(id);
-            if (key != null && !key.isBlank()) {
-                String url = s3Service.getGetGeneratePresignedUrlRequest(key); // 프로젝트 시그니처에 맞춤
-                presignedUrlMap.put(id, url);
-            }
-        }
-
-        Map<Long, List<String>> hashtagMap = new HashMap<>();
-        for (OotdHashtagRepository.OotdHashtagCategoryView v
-                : ootdHashtagRepository.findCategoriesByOotdIds(ootdIds)) {
-            hashtagMap.computeIfAbsent(v.getOotdId(), k -> new ArrayList<>())
-                    .add(v.getCategory().getKoreanName());
-        }
+        Set<Long> likedIds = ootdLikeQueryService.likedOotdIds(memberId,
+                page.stream().map(row -> ((Number) row[0]).longValue()).toList());
 
         List<OotdResponseDTO.getOotdDTO> items = page.stream()
-                .map(o -> OotdResponseDTO.getOotdDTO.builder()
-                        .id(o.getId())
-                        .nickname(o.getMember().getNickname())
-                        .image(presignedUrlMap.get(o.getId()))
-                        .hashtags(hashtagMap.getOrDefault(o.getId(), List.of()))
-                        .createdAt(o.getCreatedAt())
+                .map(row -> OotdResponseDTO.getOotdDTO.builder()
+                        .id(((Number) row[0]).longValue())
+                        .nickname((String) row[1])
+                        .image(presignedUrlMap.get((String) row[2]))
+                        .hashtags(extractHashtags(row[3]).stream()
+                                .map(name -> HashtagCategory.valueOf(name).getKoreanName())
+                                .toList())
+                        .liked(likedIds.contains(((Number) row[0]).longValue()))
+                        .createdAt(toLocalDateTime(row[4]))
                         .build())
                 .toList();
 
-        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
-
         return OotdResponseDTO.getCommunityOotdListDTO.builder()
                 .items(items)
                 .nextCursor(nextCursor)
@@ -114,6 +130,30 @@ public class OotdQueryServiceImpl implements OotdQueryService {
                 .build();
     }
 
+    // Redis 장애 시 null 을 돌려 DB keyset 조회로 넘어간다
+    private List<Long> readTimelineIds(Long cursor, int limit, List<HashtagCategory> categories) {
+        try {
+            return ootdTimelineService.readIds(cursor, limit, categories);
+        } catch (DataAccessException e) {
+            log.warn("ootd 타임라인 조회 실패, DB 조회로 대체 - error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Object[]> findCommunityPageFromDb(Long cursor, int limit, List<HashtagCategory> categories,
+                                                   boolean matchAll) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (categories.isEmpty()) {
+            return (cursor == null)
+                    ? ootdRepository.findFirstPageAll(pageable)
+                    : ootdRepository.findNextPageAll(cursor, pageable);
+        }
+        int mask = HashtagCategory.maskOf(categories);
+        return (cursor == null)
+                ? ootdRepository.findFirstPageByHashtagMask(mask, matchAll, pageable)
+                : ootdRepository.findNextPageByHashtagMask(mask, matchAll, cursor, pageable);
+    }
+
     /* 월별 ootd list 조회(개인용, 팔로워용) */
     @Override
     public OotdResponseDTO.getMonthlyOotdListDTO getMonthlyOotds(int year, int month,long memberId) {
@@ -142,8 +182,15 @@ public class OotdQueryServiceImpl implements OotdQueryService {
             int minTemp, int maxTemp, boolean rain, long memberId
     ) {
         Member member =memberRepository.findById(memberId).orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND));
-        List<OotdResponseDTO.getSimilarOotdDTO> items = ootdRepository
-                .findRandomSimilarByMemberWithImageAndTags(member.getId(), minTemp, maxTemp, rain)
+        if (minTemp > maxTemp) {
+            return OotdResponseDTO.getSimilarOotdListDTO.builder()
+                    .ootds(List.of())
+                    .build();
+        }
+
+        List<Long> ids = sampleSimilarIds(member.getId(), minTemp, maxTemp, rain);
+        List<OotdResponseDTO.getSimilarOotdDTO> items = ids.isEmpty() ? new ArrayList<>() : ootdRepository
+                .findWithImageAndTagsByIds(ids)
                 .stream()
                 .map(row -> {
                     Long id = ((Number) row[0]).longValue();
@@ -161,13 +208,32 @@ public class OotdQueryServiceImpl implements OotdQueryService {
                             .hashtags(hashtags)
                             .build();
                 })
-                .toList();
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(items);
 
         return OotdResponseDTO.getSimilarOotdListDTO.builder()
                 .ootds(items)
                 .build();
     }
 
+    // (avg_temperature, id) 공간의 임의 지점에서 표본을 뽑아, 회원의 ootd 수와 무관하게 인덱스 탐색 몇 번으로 끝낸다
+    private List<Long> sampleSimilarIds(Long memberId, int minTemp, int maxTemp, boolean rain) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] t = new int[SIMILAR_SAMPLE_SIZE];
+        double[] f = new double[SIMILAR_SAMPLE_SIZE];
+        for (int i = 0; i < SIMILAR_SAMPLE_SIZE; i++) {
+            t[i] = random.nextInt(minTemp, maxTemp + 1);
+            f[i] = random.nextDouble();
+        }
+
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(ootdRepository.findSimilarIdsFromPivots(
+                memberId, rain, maxTemp, t[0], f[0], t[1], f[1], t[2], f[2], t[3], f[3]));
+        if (ids.size() < SIMILAR_SAMPLE_SIZE) {
+            ids.addAll(ootdRepository.findFirstSimilarIds(memberId, rain, minTemp, maxTemp, SIMILAR_SAMPLE_SIZE));
+        }
+        return ids.stream().limit(SIMILAR_SAMPLE_SIZE).toList();
+    }
+
     private List<String> extractHashtags(Object raw) {
         if (raw instanceof java.sql.Array sqlArray) {
             try {
@@ -179,26 +245,100 @@ public class OotdQueryServiceImpl implements OotdQueryService {
         return Arrays.asList((String[]) raw);
     }
 
+    private LocalDateTime toLocalDateTime(Object raw) {
+        if (raw instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) raw;
+    }
+
 
     /* ootd 개별 조회시 사용 */
+    // 각 조회는 리포지토리 단위 트랜잭션으로 커넥션을 따로 잡으므로, 병렬 모드에서는 서로 다른 커넥션에서 동시에 실행된다
     @Override
-    @Transactional(readOnly = true)
     public OotdResponseDTO.getOotdDTO getOotd(Long ootdId) {
-        Ootd ootd = ootdRepository.findById(ootdId).orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND));
-        List<HashtagCategory> categories = ootdHashtagRepository.findCategoriesByOotdId(ootdId);
-        List<String> hashtagNames = categories.stream()
+        if (parallelDetail) {
+            return getOotdParallel(ootdId);
+        }
+        CountedHeader header = readHeader(ootdId);
+        List<String> hashtagNames = readHashtagNames(ootdId);
+        String presignedUrl = readImageUrl(ootdId);
+        return toOotdDTO(header, hashtagNames, presignedUrl);
+    }
+
+    // CompletableFuture.cancel 은 실행 중인 작업을 인터럽트하지 않으므로 FutureTask 로 제출해,
+    // 시간 초과나 실패 시 남은 조회 스레드를 인터럽트해서 커넥션/S3 호출을 붙잡고 있지 않게 한다
+    @SuppressWarnings("unchecked")
+    private OotdResponseDTO.getOotdDTO getOotdParallel(Long ootdId) {
+        CompletionService<Object> completion = new ExecutorCompletionService<>(virtualThreadExecutor);
+        Future<Object> header = completion.submit(() -> readHeader(ootdId));
+        Future<Object> hashtagNames = completion.submit(() -> readHashtagNames(ootdId));
+        Future<Object> presignedUrl = completion.submit(() -> readImageUrl(ootdId));
+        List<Future<Object>> tasks = List.of(header, hashtagNames, presignedUrl);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(detailTimeoutMillis);
+        try {
+            // 끝나는 순서대로 확인해서 하나라도 실패하면 나머지를 기다리지 않는다
+            for (int i = 0; i < tasks.size(); i++) {
+                Future<Object> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new OotdException(OotdErrorCode.DETAIL_TIMEOUT);
+                }
+                done.get();
+            }
+            return toOotdDTO((CountedHeader) header.get(), (List<String>) hashtagNames.get(),
+                    (String) presignedUrl.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OotdException(OotdErrorCode.DETAIL_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // 이미 끝난 작업에는 영향이 없다
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    // 댓글 수 컬럼 조회와 미반영 변경분 합산이 카운터 반영과 겹치지 않도록 헤더 조회를 카운터 안에서 실행한다
+    private CountedHeader readHeader(Long ootdId) {
+        AtomicReference<OotdRepository.OotdHeaderView> header = new AtomicReference<>();
+        long commentCount = ootdCounterService.commentCount(ootdId, () -> {
+            header.set(ootdRepository.findHeaderById(ootdId).orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND)));
+            return header.get().getCommentCount();
+        });
+        return new CountedHeader(header.get(), commentCount);
+    }
+
+    private record CountedHeader(OotdRepository.OotdHeaderView view, long commentCount) {
+    }
+
+    private List<String> readHashtagNames(Long ootdId) {
+        return ootdHashtagRepository.findCategoriesByOotdId(ootdId).stream()
                 .map(HashtagCategory::getKoreanName)
                 .toList();
-        String key=ootdImageRepository.findKeyByOotdId(ootdId).orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND));
-        String presingedUrl=s3Service.getGetGeneratePresignedUrlRequest(key);
-        Long commentCount=commentQueryService.countByOotd(ootdId);
+    }
+
+    // 상세 이미지(리사이즈본이 없으면 원본) key
+    @Override
+    public String getImageKey(Long ootdId) {
+        return ootdImageRepository.findKeyByOotdId(ootdId).orElseThrow(() -> new OotdException(OotdErrorCode.NOT_FOUND));
+    }
+
+    // 이미지 key 조회 직후 같은 스레드에서 presign 까지 끝낸다
+    private String readImageUrl(Long ootdId) {
+        return s3Service.getGetGeneratePresignedUrlRequest(getImageKey(ootdId));
+    }
+
+    private OotdResponseDTO.getOotdDTO toOotdDTO(CountedHeader header, List<String> hashtagNames,
+                                                 String presignedUrl) {
         return OotdResponseDTO.getOotdDTO.builder()
-                .id(ootd.getId())
-                .nickname(ootd.getMember().getNickname())
+                .id(header.view().getId())
+                .nickname(header.view().getNickname())
                 .hashtags(hashtagNames)
-                .commentCount(commentCount)
-                .createdAt(ootd.getCreatedAt())
-                .image(presingedUrl)
+                .commentCount(header.commentCount())
+                .createdAt(header.view().getCreatedAt())
+                .image(presignedUrl)
                 .build();
     }
 }
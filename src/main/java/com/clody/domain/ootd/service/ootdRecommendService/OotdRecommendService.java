@@ -0,0 +1,15 @@
+package com.clody.domain.ootd.service.ootdRecommendService;
+
+import com.clody.domain.member.entity.AccountScope;
+import com.clody.domain.ootd.dto.OotdResponseDTO;
+import com.clody.domain.ootd.entity.Ootd;
+
+public interface OotdRecommendService {
+
+    void add(Ootd ootd, AccountScope accountScope);
+
+    OotdResponseDTO.getSimilarOotdListDTO getSimilarWeatherOotds(int minTemp, int maxTemp, int humidity, boolean rain,
+                                                                 int size, Long memberId);
+
+    int rebuild();
+}
@@ -0,0 +1,155 @@
+package com.clody.domain.ootd.service.ootdRecommendService;
+
+import com.clody.domain.hashtag.entity.HashtagCategory;
+import com.clody.domain.hashtag.exception.HashtagErrorCode;
+import com.clody.domain.hashtag.exception.HashtagException;
+import com.clody.domain.member.entity.AccountScope;
+import com.clody.domain.ootd.dto.OotdResponseDTO;
+import com.clody.domain.ootd.entity.Ootd;
+import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.global.s3.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * "이런 날씨에 다른 사람들은 무엇을 입었나" 추천.
+ * 공개 계정의 ootd 를 메모리 격자 인덱스(WeatherGridIndex)에 올려 두고 최근접 이웃을 찾은 뒤,
+ * 고른 id 만 DB 에서 이미지/해시태그를 채운다.
+ * 인덱스는 ootd 생성 시 바로 추가되고, 삭제/공개범위 변경은 주기적 재구축으로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OotdRecommendServiceImpl implements OotdRecommendService {
+
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+    private static final int MAX_SIZE = 20;
+
+    private final OotdRepository ootdRepository;
+    private final S3Service s3Service;
+
+    private volatile WeatherGridIndex index = new WeatherGridIndex();
+    // 재구축 중 새로 생긴 ootd 가 교체될 인덱스에서 빠지지 않도록 양쪽에 추가한다
+    private volatile WeatherGridIndex building;
+
+    @Override
+    public void add(Ootd ootd, AccountScope accountScope) {
+        if (ootd.getMember() == null || accountScope != AccountScope.PUBLIC) return;
+
+        WeatherGridIndex.Point point = new WeatherGridIndex.Point(ootd.getId(), ootd.getMember().getId(),
+                ootd.getMinTemperature(), ootd.getMaxTemperature(), ootd.getHumidity());
+        index.add(point, ootd.isRain());
+        WeatherGridIndex next = building;
+        if (next != null) {
+            next.add(point, ootd.isRain());
+        }
+    }
+
+    @Override
+    public OotdResponseDTO.getSimilarOotdListDTO getSimilarWeatherOotds(int minTemp, int maxTemp, int humidity,
+                                                                        boolean rain, int size, Long memberId) {
+        int k = Math.max(1, Math.min(size, MAX_SIZE));
+        List<Long> ids = index.nearest(minTemp, maxTemp, humidity, rain, k, memberId).stream()
+                .map(WeatherGridIndex.Neighbor::ootdId)
+                .toList();
+        if (ids.isEmpty()) {
+            return OotdResponseDTO.getSimilarOotdListDTO.builder()
+                    .ootds(List.of())
+                    .build();
+        }
+
+        // 인덱스 이후 비공개로 바뀌었거나 삭제된 ootd 는 여기서 걸러진다
+        Map<Long, Object[]> rowsById = new HashMap<>();
+        for (Object[] row : ootdRepository.findPublicWithImageAndTagsByIds(ids)) {
+            rowsById.put(((Number) row[0]).longValue(), row);
+        }
+        List<String> keys = rowsById.values().stream()
+                .map(row -> (String) row[1])
+                .filter(key -> key != null && !key.isBlank())
+                .toList();
+        Map<String, String> urls = s3Service.getGetGeneratePresignedUrls(keys);
+
+        List<OotdResponseDTO.getSimilarOotdDTO> items = new ArrayList<>(rowsById.size());
+        for (Long id : ids) {
+            Object[] row = rowsById.get(id);
+            if (row == null) continue;
+            items.add(OotdResponseDTO.getSimilarOotdDTO.builder()
+                    .id(id)
+                    .image(urls.get((String) row[1]))
+                    .hashtags(extractHashtags(row[2]).stream()
+                            .map(name -> HashtagCategory.valueOf(name).getKoreanName())
+                            .toList())
+                    .build());
+        }
+
+        return OotdResponseDTO.getSimilarOotdListDTO.builder()
+                .ootds(items)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 인덱스가 비어 있으면 추천 결과만 비게 되므로 기동은 계속한다
+            log.error("날씨 추천 인덱스 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${ootd.recommend.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${ootd.recommend.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("날씨 추천 인덱스 재구축 실패, 기존 인덱스 유지 - error: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        WeatherGridIndex next = new WeatherGridIndex();
+        building = next;
+        try {
+            Pageable chunk = PageRequest.of(0, REBUILD_CHUNK_SIZE);
+            long cursor = 0L;
+            while (true) {
+                List<OotdRepository.WeatherPointView> points =
+                        ootdRepository.findWeatherPointsAfter(AccountScope.PUBLIC, cursor, chunk);
+                if (points.isEmpty()) break;
+
+                for (OotdRepository.WeatherPointView v : points) {
+                    next.add(new WeatherGridIndex.Point(v.getId(), v.getMemberId(),
+                            v.getMinTemperature(), v.getMaxTemperature(), v.getHumidity()), v.getRain());
+                }
+                cursor = points.get(points.size() - 1).getId();
+            }
+            index = next;
+        } finally {
+            building = null;
+        }
+        log.info("날씨 추천 인덱스 재구축 완료 - 건수: {}", next.size());
+        return next.size();
+    }
+
+    private List<String> extractHashtags(Object raw) {
+        if (raw instanceof java.sql.Array sqlArray) {
+            try {
+                return Arrays.asList((String[]) sqlArray.getArray());
+            } catch (SQLException e) {
+                throw new HashtagException(HashtagErrorCode.RETURN_FAIL);
+            }
+        }
+        return Arrays.asList((String[]) raw);
+    }
+}
@@ -0,0 +1,150 @@
+package com.clody.domain.ootd.service.ootdRecommendService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (최저기온, 최고기온, 습도) 3차원 격자 위의 최근접 이웃 인덱스. 비/맑음은 별도 격자로 나눈다.
+ * 습도는 가중치를 곱해 기온과 같은 단위로 맞추므로 셀은 모든 축에서 CELL_WIDTH 만큼의 폭을 가진다.
+ * 조회는 질의 셀에서 바깥으로 한 겹씩 넓혀 가며, 다음 겹의 최소 거리가 k 번째 후보보다 멀어지면 멈춘다.
+ */
+final class WeatherGridIndex {
+
+    // 기온 3°C, 습도 10% 를 한 셀로 본다 (습도 10% 차이 ≈ 기온 3°C 차이)
+    private static final int TEMP_CELL = 3;
+    private static final int HUMIDITY_CELL = 10;
+    private static final double HUMIDITY_WEIGHT = (double) TEMP_CELL / HUMIDITY_CELL;
+    private static final double CELL_WIDTH = TEMP_CELL;
+
+    private static final int COORD_OFFSET = 1 << 19;
+    private static final int COORD_BITS = 21;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+
+    private final Grid dry = new Grid();
+    private final Grid wet = new Grid();
+    // 재구축 중에는 생성 시 추가와 DB 적재가 같은 ootd 를 두 번 넣을 수 있으므로 id 로 중복을 막는다
+    private final Set<Long> ootdIds = ConcurrentHashMap.newKeySet();
+
+    record Point(long ootdId, long memberId, int minTemperature, int maxTemperature, int humidity) {
+    }
+
+    record Neighbor(long ootdId, double distance) {
+    }
+
+    void add(Point point, boolean rain) {
+        if (!ootdIds.add(point.ootdId())) return;
+        (rain ? wet : dry).add(point);
+    }
+
+    int size() {
+        return dry.size + wet.size;
+    }
+
+    /**
+     * excludeMemberId 의 ootd 는 제외하고 가까운 순으로 최대 k 개를 돌려준다.
+     */
+    List<Neighbor> nearest(int minTemperature, int maxTemperature, int humidity, boolean rain,
+                           int k, Long excludeMemberId) {
+        return (rain ? wet : dry).nearest(minTemperature, maxTemperature, humidity, k, excludeMemberId);
+    }
+
+    private static final class Grid {
+        private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+        // 점이 들어 있는 셀 좌표의 범위. 탐색을 이 범위로 잘라 빈 공간을 돌지 않게 한다
+        private volatile int minA = Integer.MAX_VALUE, maxA = Integer.MIN_VALUE;
+        private volatile int minB = Integer.MAX_VALUE, maxB = Integer.MIN_VALUE;
+        private volatile int minC = Integer.MAX_VALUE, maxC = Integer.MIN_VALUE;
+        private volatile int size;
+
+        synchronized void add(Point point) {
+            int a = Math.floorDiv(point.minTemperature(), TEMP_CELL);
+            int b = Math.floorDiv(point.maxTemperature(), TEMP_CELL);
+            int c = Math.floorDiv(point.humidity(), HUMIDITY_CELL);
+            cells.computeIfAbsent(cellKey(a, b, c), key -> new Cell()).add(point);
+
+            minA = Math.min(minA, a);
+            maxA = Math.max(maxA, a);
+            minB = Math.min(minB, b);
+            maxB = Math.max(maxB, b);
+            minC = Math.min(minC, c);
+            maxC = Math.max(maxC, c);
+            size++;
+        }
+
+        List<Neighbor> nearest(int minTemperature, int maxTemperature, int humidity, int k, Long excludeMemberId) {
+            if (size == 0 || k <= 0) return List.of();
+
+            int a0 = Math.floorDiv(minTemperature, TEMP_CELL);
+            int b0 = Math.floorDiv(maxTemperature, TEMP_CELL);
+            int c0 = Math.floorDiv(humidity, HUMIDITY_CELL);
+            int loA = minA, hiA = maxA, loB = minB, hiB = maxB, loC = minC, hiC = maxC;
+            int maxRing = Math.max(
+                    Math.max(Math.max(a0 - loA, hiA - a0), Math.max(b0 - loB, hiB - b0)),
+                    Math.max(c0 - loC, hiC - c0));
+
+            // 거리가 먼 것이 먼저 나오는 최대 힙으로 상위 k 개만 유지
+            PriorityQueue<Neighbor> best = new PriorityQueue<>(k + 1,
+                    Comparator.comparingDouble(Neighbor::distance).reversed());
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // ring 겹의 셀에 있는 점은 적어도 한 축에서 (ring - 1) 셀 폭 이상 떨어져 있다
+                if (best.size() == k && best.peek().distance() <= (ring - 1) * CELL_WIDTH) break;
+
+                for (int a = Math.max(a0 - ring, loA); a <= Math.min(a0 + ring, hiA); a++) {
+                    for (int b = Math.max(b0 - ring, loB); b <= Math.min(b0 + ring, hiB); b++) {
+                        boolean onShellAB = Math.abs(a - a0) == ring || Math.abs(b - b0) == ring;
+                        for (int c = Math.max(c0 - ring, loC); c <= Math.min(c0 + ring, hiC); c++) {
+                            // 안쪽 겹은 이미 봤으므로 껍질에 해당하는 셀만 본다
+                            if (!onShellAB && Math.abs(c - c0) != ring) continue;
+                            Cell cell = cells.get(cellKey(a, b, c));
+                            if (cell == null) continue;
+                            for (Point p : cell.points) {
+                                if (excludeMemberId != null && p.memberId() == excludeMemberId) continue;
+                                double distance = distance(p, minTemperature, maxTemperature, humidity);
+                                if (best.size() < k) {
+                                    best.add(new Neighbor(p.ootdId(), distance));
+                                } else if (distance < best.peek().distance()) {
+                                    best.poll();
+                                    best.add(new Neighbor(p.ootdId(), distance));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            List<Neighbor> result = new ArrayList<>(best);
+            result.sort(Comparator.comparingDouble(Neighbor::distance));
+            return result;
+        }
+
+        private static double distance(Point p, int minTemperature, int maxTemperature, int humidity) {
+            double dMin = p.minTemperature() - minTemperature;
+            double dMax = p.maxTemperature() - maxTemperature;
+            double dHumidity = (p.humidity() - humidity) * HUMIDITY_WEIGHT;
+            return Math.sqrt(dMin * dMin + dMax * dMax + dHumidity * dHumidity);
+        }
+
+        private static long cellKey(int a, int b, int c) {
+            return ((long) (a + COORD_OFFSET) & COORD_MASK) << (2 * COORD_BITS)
+                    | ((long) (b + COORD_OFFSET) & COORD_MASK) << COORD_BITS
+                    | ((long) (c + COORD_OFFSET) & COORD_MASK);
+        }
+    }
+
+    // 읽기는 잠금 없이, 쓰기는 배열을 복사해 교체한다 (추가는 ootd 생성 시에만 일어남)
+    private static final class Cell {
+        private volatile Point[] points = new Point[0];
+
+        void add(Point point) {
+            Point[] next = Arrays.copyOf(points, points.length + 1);
+            next[points.length] = point;
+            points = next;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.clody.domain.ootd.service.ootdTimelineService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콜드 스타트 시 ootd 타임라인을 DB 로부터 재구축한다.
+ * 타임라인이 아직 없으면 자동으로, --rebuild-ootd-timeline 옵션으로 기동하면 강제로 재구축한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OotdTimelineRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-ootd-timeline";
+
+    private final OotdTimelineService ootdTimelineService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean forced = args.containsOption(REBUILD_OPTION);
+        if (!forced && ootdTimelineService.isReady()) {
+            return;
+        }
+        try {
+            ootdTimelineService.rebuild();
+        } catch (Exception e) {
+            // 재구축 전까지는 DB 조회로 동작하므로 기동은 계속한다
+            log.error("ootd 타임라인 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.clody.domain.ootd.service.ootdTimelineService;
+
+import com.clody.domain.hashtag.entity.HashtagCategory;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OotdTimelineService {
+    void append(Long ootdId, Collection<HashtagCategory> categories);
+    boolean isReady();
+    List<Long> readIds(Long cursor, int limit, Collection<HashtagCategory> categories);
+    long rebuild();
+}
@@ -0,0 +1,122 @@
+package com.clody.domain.ootd.service.ootdTimelineService;
+
+import com.clody.domain.hashtag.entity.HashtagCategory;
+import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootdHashtag.repository.OotdHashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 둘러보기 피드용 Redis ZSET 타임라인.
+ * 전체 타임라인 1개 + 해시태그 카테고리별 타임라인을 두고, score 는 ootd id 를 사용한다.
+ * 커서 기반 페이지는 ZREVRANGEBYSCORE 로 O(log n) 에 id 목록만 읽고, 상세 정보는 DB 에서 id 로 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OotdTimelineServiceImpl implements OotdTimelineService {
+
+    private static final String TIMELINE_PREFIX = "ootd_timeline:";
+    private static final String GLOBAL_KEY = TIMELINE_PREFIX + "all";
+    private static final String READY_KEY = TIMELINE_PREFIX + "ready";
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final OotdRepository ootdRepository;
+    private final OotdHashtagRepository ootdHashtagRepository;
+
+    @Override
+    public void append(Long ootdId, Collection<HashtagCategory> categories) {
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            String member = String.valueOf(ootdId);
+            zSet.add(GLOBAL_KEY, member, ootdId.doubleValue());
+            for (HashtagCategory category : new HashSet<>(categories)) {
+                zSet.add(categoryKey(category), member, ootdId.doubleValue());
+            }
+        } catch (Exception e) {
+            // 타임라인 반영 실패가 ootd 생성을 막지는 않는다. 누락분은 재구축으로 복구
+            log.warn("ootd 타임라인 추가 실패 - ootdId: {}, error: {}", ootdId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+        } catch (Exception e) {
+            log.warn("ootd 타임라인 상태 확인 실패, DB 조회로 대체 - error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Long> readIds(Long cursor, int limit, Collection<HashtagCategory> categories) {
+        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        // 커서는 배타적(id < cursor), id 는 정수이므로 cursor - 1 까지 포함
+        double max = (cursor == null) ? Long.MAX_VALUE : cursor - 1;
+
+        if (categories == null || categories.isEmpty()) {
+            return toIds(zSet.reverseRangeByScore(GLOBAL_KEY, 0, max, 0, limit));
+        }
+
+        // 여러 카테고리(OR 조건)는 카테고리별 상위 limit 개의 합집합에서 다시 상위 limit 개를 고른다
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        for (HashtagCategory category : new HashSet<>(categories)) {
+            merged.addAll(toIds(zSet.reverseRangeByScore(categoryKey(category), 0, max, 0, limit)));
+        }
+        return merged.stream().limit(limit).toList();
+    }
+
+    @Override
+    public long rebuild() {
+        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        Pageable chunk = PageRequest.of(0, REBUILD_CHUNK_SIZE);
+        Long cursor = null;
+        long total = 0;
+
+        while (true) {
+            List<Long> ids = (cursor == null)
+                    ? ootdRepository.findIdsFirstPage(chunk)
+                    : ootdRepository.findIdsNextPage(cursor, chunk);
+            if (ids.isEmpty()) break;
+
+            Map<String, Set<ZSetOperations.TypedTuple<Object>>> tuplesByKey = new HashMap<>();
+            for (Long id : ids) {
+                tuplesByKey.computeIfAbsent(GLOBAL_KEY, k -> new HashSet<>())
+                        .add(ZSetOperations.TypedTuple.of(String.valueOf(id), id.doubleValue()));
+            }
+            for (OotdHashtagRepository.OotdHashtagCategoryView v
+                    : ootdHashtagRepository.findCategoriesByOotdIds(ids)) {
+                tuplesByKey.computeIfAbsent(categoryKey(v.getCategory()), k -> new HashSet<>())
+                        .add(ZSetOperations.TypedTuple.of(String.valueOf(v.getOotdId()), v.getOotdId().doubleValue()));
+            }
+            tuplesByKey.forEach(zSet::add);
+
+            total += ids.size();
+            cursor = ids.get(ids.size() - 1);
+        }
+
+        redisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()));
+        log.info("ootd 타임라인 재구축 완료 - 건수: {}", total);
+        return total;
+    }
+
+    private String categoryKey(HashtagCategory category) {
+        return TIMELINE_PREFIX + category.name();
+    }
+
+    private List<Long> toIds(Set<Object> members) {
+        if (members == null || members.isEmpty()) return List.of();
+        return members.stream()
+                .map(m -> Long.valueOf(m.toString()))
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.clody.global.apiPayload.exception.base;
+
+import com.clody.global.apiPayload.code.BaseErrorCode;
+import com.clody.global.apiPayload.exception.GeneralException;
+import lombok.Getter;
+
+// 일시적인 과부하로 거절된 요청. 응답에 Retry-After 헤더를 붙인다
+@Getter
+public class RetryableException extends GeneralException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableException(BaseErrorCode baseErrorCode, long retryAfterSeconds) {
+        super(baseErrorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -5,9 +5,11 @@ import com.clody.global.apiPayload.code.BaseErrorCode;
 import com.clody.global.apiPayload.code.ErrorReasonDTO;
 import com.clody.global.apiPayload.code.base.FailureCode;
 import com.clody.global.apiPayload.exception.GeneralException;
+import com.clody.global.apiPayload.exception.base.RetryableException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -45,6 +47,17 @@ public class ExceptionAdvice {
         return ResponseEntity.status(dto.getHttpStatus()).body(ApiResponse.onFailure(dto.getCode(), dto.getMessage(), error));
     }
 
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<ApiResponse<String>> retryableException(RetryableException e) {
+        ErrorReasonDTO dto = e.getBaseErrorCode().getReasonHttpStatus();
+
+        log.warn("Exception Advice(Retryable Exception): {}", dto.getMessage());
+
+        return ResponseEntity.status(dto.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.onFailure(dto.getCode(), dto.getMessage(), null));
+    }
+
     @ExceptionHandler(GeneralException.class)
     public ResponseEntity<ApiResponse<String>> generalException(GeneralException e) {
         BaseErrorCode code = e.getBaseErrorCode();
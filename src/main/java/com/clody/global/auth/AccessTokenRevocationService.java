@@ -0,0 +1,136 @@
+package com.clody.global.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 액세스 토큰 폐기 목록.
+ * 폐기된 jti 는 토큰 만료 시각까지 Redis(revoked_jti:{jti})에 두고, pub/sub 으로 모든 인스턴스의 Bloom filter 에 전파한다.
+ * 요청마다 Bloom filter 만 확인하고, 걸린 경우에만 Redis 로 실제 폐기 여부를 확인한다.
+ * 만료된 jti 가 쌓여 오탐률이 오르지 않도록 주기적으로 Redis 를 SCAN 해 filter 를 새로 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenRevocationService implements MessageListener {
+
+    private static final String KEY_PREFIX = "revoked_jti:";
+    private static final String CHANNEL = "revoked_jti";
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${auth.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${auth.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile RevokedTokenBloomFilter filter;
+    // 재구축 중 들어온 폐기가 교체될 filter 에서 빠지지 않도록 양쪽에 추가한다
+    private volatile RevokedTokenBloomFilter building;
+
+    @PostConstruct
+    void init() {
+        filter = newFilter();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void revoke(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) return;
+        long ttlMillis = expiration.getTime() - System.currentTimeMillis();
+        if (ttlMillis <= 0) return;
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        addLocal(tokenId);
+        redisTemplate.convertAndSend(CHANNEL, tokenId);
+
+        log.debug("액세스 토큰 폐기 - jti: {}, expiration: {}", tokenId, expiration);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            // filter 에 걸린 토큰은 확인할 수 없으면 폐기된 것으로 본다
+            log.warn("토큰 폐기 여부 확인 실패, 폐기로 처리 - jti: {}, error: {}", tokenId, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("토큰 폐기 목록 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${auth.revocation.rebuild-interval-ms:600000}",
+            fixedDelayString = "${auth.revocation.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 재구축 실패, 기존 filter 유지 - error: {}", e.getMessage());
+        }
+    }
+
+    synchronized void rebuild() {
+        RevokedTokenBloomFilter next = newFilter();
+        building = next;
+        long count = 0;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    next.put(cursor.next().substring(KEY_PREFIX.length()));
+                    count++;
+                }
+            }
+            filter = next;
+        } finally {
+            building = null;
+        }
+        log.info("토큰 폐기 목록 재구축 완료 - 건수: {}", count);
+    }
+
+    private void addLocal(String tokenId) {
+        filter.put(tokenId);
+        RevokedTokenBloomFilter next = building;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    private RevokedTokenBloomFilter newFilter() {
+        return new RevokedTokenBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
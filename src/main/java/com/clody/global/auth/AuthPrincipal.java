@@ -0,0 +1,54 @@
+package com.clody.global.auth;
+
+import com.clody.domain.member.entity.AccountScope;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 액세스 토큰 claims 만으로 만든 인증 주체. 필터가 SecurityContext 의 principal 로 넣는다.
+ * memberId / 닉네임 / 공개 범위만 필요한 조회 API 는 @CurrentUser AuthPrincipal 로 받아 DB·Redis 접근 없이 처리한다.
+ * profileVersion 은 토큰 발급 시점의 Member.profileVersion 으로, 전파받은 최신 버전과 비교해 이후 프로필이 바뀌었는지 판단한다.
+ * (발급 이후 프로필이 바뀐 토큰일 때만 스냅샷을 읽는다)
+ */
+@Getter
+@Builder
+public class AuthPrincipal {
+    private final Long memberId;
+    private final String nickname;
+    private final AccountScope accountScope;
+    private final int profileVersion;
+    // 로그인 세션(기기) id, 이전 형식 토큰이면 null
+    private final String sessionId;
+    // 액세스 토큰 jti / 만료 시각 (로그아웃 시 폐기용), 이전 형식 토큰이면 jti 는 null
+    private final String tokenId;
+    private final Date expiresAt;
+
+    // 프로필 claims 가 없는 이전 형식의 토큰인지
+    public boolean isLegacy() {
+        return nickname == null || accountScope == null;
+    }
+
+    public static AuthPrincipal from(MemberSnapshot snapshot) {
+        return AuthPrincipal.builder()
+                .memberId(snapshot.getId())
+                .nickname(snapshot.getNickname())
+                .accountScope(snapshot.getAccountScope())
+                .profileVersion(snapshot.getProfileVersion())
+                .build();
+    }
+
+    // 토큰 발급 이후 바뀐 프로필을 반영하되, 세션/토큰 식별 정보(로그아웃에 필요)는 그대로 둔다
+    public AuthPrincipal withProfile(MemberSnapshot snapshot) {
+        return AuthPrincipal.builder()
+                .memberId(memberId)
+                .nickname(snapshot.getNickname())
+                .accountScope(snapshot.getAccountScope())
+                .profileVersion(snapshot.getProfileVersion())
+                .sessionId(sessionId)
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -23,12 +23,16 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        // @CurrentMember 애노테이션 + 파라미터 타입이 Member인 경우에만 동작
-        return parameter.hasParameterAnnotation(CurrentUser.class)
-                && Member.class.isAssignableFrom(parameter.getParameterType());
+        // @CurrentUser 애노테이션 + 파라미터 타입이 Member / MemberSnapshot / AuthPrincipal 인 경우에만 동작
+        if (!parameter.hasParameterAnnotation(CurrentUser.class)) return false;
+        Class<?> type = parameter.getParameterType();
+        return Member.class.isAssignableFrom(type)
+                || MemberSnapshot.class.isAssignableFrom(type)
+                || AuthPrincipal.class.isAssignableFrom(type);
     }
 
     @Override
@@ -46,9 +50,11 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
         Object principal = auth.getPrincipal();
         Long memberId;
 
-        // 필터에서 principal을 Long으로 넣는 것이 정석이지만,
-        // 혹시 숫자 문자열로 들어오는 환경도 대비(배포/테스트 환경 차이 등)
-        if (principal instanceof Long l) {
+        // 필터는 AuthPrincipal 을 넣지만,
+        // 혹시 Long / 숫자 문자열로 들어오는 환경도 대비(배포/테스트 환경 차이 등)
+        if (principal instanceof AuthPrincipal p) {
+            memberId = p.getMemberId();
+        } else if (principal instanceof Long l) {
             memberId = l;
         } else if (principal instanceof String s && isAllDigits(s)) {
             memberId = Long.valueOf(s);
@@ -57,10 +63,32 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             throw new GeneralException(FailureCode.JWT_INVALID_TOKEN);
         }
 
+        Class<?> type = parameter.getParameterType();
+        if (AuthPrincipal.class.isAssignableFrom(type)) {
+            return resolvePrincipal(principal, memberId);
+        }
+
+        // 스냅샷은 캐시에서, 엔티티(수정용)는 DB 에서
+        if (MemberSnapshot.class.isAssignableFrom(type)) {
+            return memberSnapshotCache.get(memberId);
+        }
+
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND));
     }
 
+    // 토큰 claims 를 그대로 쓰되, 전파받은 프로필 버전이 더 새로우면(토큰 발급 후 변경) 스냅샷 값을 쓴다
+    private AuthPrincipal resolvePrincipal(Object principal, Long memberId) {
+        if (principal instanceof AuthPrincipal p && !p.isLegacy()) {
+            return memberSnapshotCache.findNewerThan(memberId, p.getProfileVersion())
+                    .map(p::withProfile)
+                    .orElse(p);
+        }
+        // 프로필 claims 가 없는 이전 토큰은 스냅샷으로 채운다
+        MemberSnapshot snapshot = memberSnapshotCache.get(memberId);
+        return (principal instanceof AuthPrincipal p) ? p.withProfile(snapshot) : AuthPrincipal.from(snapshot);
+    }
+
     private boolean isAllDigits(String s) {
         // 공백 방지 및 숫자만 허용
         if (s == null || s.isBlank()) return false;
@@ -22,6 +22,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) 
@@ -37,11 +38,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("토큰 검증 결과: {}", isValid);
             
             if (isValid) {
-                Long memberId = jwtUtil.getMemberIdFromToken(token);
-                log.debug("토큰에서 추출된 memberId: {}", memberId);
+                AuthPrincipal principal = jwtUtil.getPrincipalFromToken(token);
+                log.debug("토큰에서 추출된 memberId: {}", principal.getMemberId());
+
+                // 로그아웃 등으로 폐기된 토큰은 인증하지 않는다 (Bloom filter 에 걸릴 때만 Redis 확인)
+                if (accessTokenRevocationService.isRevoked(principal.getTokenId())) {
+                    log.debug("폐기된 토큰 - jti: {}", principal.getTokenId());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
                 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    memberId, null, Collections.emptyList()
+                    principal, null, Collections.emptyList()
                 );
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,35 @@
+package com.clody.global.auth;
+
+import com.clody.domain.member.entity.AccountScope;
+import com.clody.domain.member.entity.Member;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 요청 처리에 필요한 회원 정보만 담은 불변 스냅샷.
+ * 조회 위주의 컨트롤러는 @CurrentUser MemberSnapshot 으로 받아 DB 조회 없이 사용한다.
+ * 엔티티를 수정해야 하는 경우에는 @CurrentUser Member 를 사용한다.
+ */
+@Getter
+@Builder
+public class MemberSnapshot {
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final AccountScope accountScope;
+    private final boolean emailVerified;
+    private final int profileVersion;
+
+    public static MemberSnapshot from(Member member) {
+        return MemberSnapshot.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .profileImageUrl(member.getProfileImageUrl())
+                .accountScope(member.getAccountScope())
+                .emailVerified(Boolean.TRUE.equals(member.getIsEmailVerified()))
+                .profileVersion(member.getProfileVersion())
+                .build();
+    }
+}
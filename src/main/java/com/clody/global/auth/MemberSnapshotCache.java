@@ -0,0 +1,312 @@
+package com.clody.global.auth;
+
+import com.clody.domain.member.entity.AccountScope;
+import com.clody.domain.member.exception.MemberErrorCode;
+import com.clody.domain.member.exception.MemberException;
+import com.clody.domain.member.repository.MemberRepository;
+import com.clody.global.jwt.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 스냅샷 near-cache. 로컬 캐시(짧은 TTL) → Redis 해시 → DB 순으로 조회한다.
+ * 회원 정보가 바뀌면 커밋 이후 evict 로 두 캐시를 모두 지운다.
+ * 프로필이 바뀌면 새 profileVersion 을 pub/sub 으로 모든 인스턴스에 전파해 로컬 버전 표에 기록하고 로컬 스냅샷을 지운다.
+ * findNewerThan 은 이 표만 보므로, 토큰 발급 이후 프로필이 바뀐 회원이 아니면 Redis·DB 에 접근하지 않는다.
+ * 버전은 Redis(member_profile_version:{id})에도 액세스 토큰 수명만큼 두어, 새로 뜬 인스턴스가 시작할 때 표를 채운다.
+ * evict 는 Redis 해시를 세대(gen) 값만 남긴 묘비로 바꾸고, DB 에서 읽은 스냅샷은 읽기 전에 본 세대가 그대로일 때만
+ * 저장한다. 그래서 DB 조회와 저장 사이에 evict 가 끼어들어도 이전 스냅샷이 다시 저장되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSnapshotCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "member_snapshot:";
+    private static final String VERSION_KEY_PREFIX = "member_profile_version:";
+    private static final String VERSION_CHANNEL = "member_profile_version";
+    private static final int SCAN_COUNT = 1000;
+    private static final String GENERATION_FIELD = "gen";
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    // ARGV: 읽기 전에 본 세대, profileVersion, TTL(ms), field1, value1, ...
+    // 세대가 바뀌었거나 저장된 profileVersion 이 더 새로우면 저장하지 않는다. HSET 과 PEXPIRE 를 한 번에 실행한다
+    private static final RedisScript<Long> WRITE_IF_CURRENT = new DefaultRedisScript<>("""
+            local gen = redis.call('HGET', KEYS[1], 'gen') or '0'
+            if gen ~= ARGV[1] then return 0 end
+            local pv = redis.call('HGET', KEYS[1], 'profileVersion')
+            if pv and tonumber(pv) > tonumber(ARGV[2]) then return 0 end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 스냅샷을 지우고 세대만 하나 올린 묘비를 남긴다 (ARGV: TTL(ms))
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            local gen = tonumber(redis.call('HGET', KEYS[1], 'gen') or '0') + 1
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'gen', gen)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return gen
+            """, Long.class);
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final JwtProperties jwtProperties;
+
+    private final Map<Long, LocalEntry> local = new ConcurrentHashMap<>();
+    // 프로필이 바뀐 회원의 최신 profileVersion. 바뀌기 전에 발급된 액세스 토큰이 모두 만료될 때까지만 둔다
+    private final Map<Long, VersionEntry> latestVersions = new ConcurrentHashMap<>();
+
+    @Value("${member.snapshot.local-ttl-ms:30000}")
+    private long localTtlMillis;
+
+    @Value("${member.snapshot.redis-ttl-ms:600000}")
+    private long redisTtlMillis;
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(VERSION_CHANNEL));
+    }
+
+    public MemberSnapshot get(Long memberId) {
+        long now = System.currentTimeMillis();
+        LocalEntry entry = local.get(memberId);
+        if (entry != null && entry.expiresAtMillis() > now) {
+            return entry.snapshot();
+        }
+
+        Map<Object, Object> fields = readRedis(memberId);
+        MemberSnapshot snapshot = toSnapshot(memberId, fields);
+        if (snapshot == null) {
+            snapshot = memberRepository.findById(memberId)
+                    .map(MemberSnapshot::from)
+                    .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND));
+            // Redis 를 읽지 못했으면 세대를 모르므로 저장하지 않는다.
+            // 그사이 evict 되어 저장이 거절된 스냅샷은 이전 값일 수 있으므로 로컬에도 올리지 않는다
+            if (fields != null && !writeRedis(snapshot, (String) fields.getOrDefault(GENERATION_FIELD, "0"))) {
+                return snapshot;
+            }
+        }
+        putLocal(snapshot, now);
+        return snapshot;
+    }
+
+    /**
+     * 토큰에 담긴 profileVersion 보다 새로운 프로필이 있으면 그 스냅샷을 돌려준다.
+     * 전파받은 버전 표만 확인하므로 대부분의 요청은 I/O 없이 끝나고, 토큰이 낡은 경우에만 get() 으로 스냅샷을 읽는다.
+     */
+    public Optional<MemberSnapshot> findNewerThan(Long memberId, int profileVersion) {
+        VersionEntry latest = latestVersions.get(memberId);
+        if (latest == null || latest.version() <= profileVersion) {
+            return Optional.empty();
+        }
+        // 전파가 로컬 스냅샷 저장보다 먼저 도착했을 수 있으므로 표보다 낡은 로컬 값은 버린다
+        LocalEntry entry = local.get(memberId);
+        if (entry != null && entry.snapshot().getProfileVersion() < latest.version()) {
+            local.remove(memberId, entry);
+        }
+        MemberSnapshot snapshot = get(memberId);
+        return (snapshot.getProfileVersion() > profileVersion) ? Optional.of(snapshot) : Optional.empty();
+    }
+
+    /**
+     * 프로필(닉네임, 공개 범위, 이미지)이 바뀐 경우. 스냅샷을 지우고 새 profileVersion 을 모든 인스턴스에 알린다.
+     */
+    public void evict(Long memberId, int profileVersion) {
+        afterCommit(() -> {
+            evictNow(memberId);
+            publishVersion(memberId, profileVersion);
+        });
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 지운다 (롤백 시 유지)
+    public void evict(Long memberId) {
+        afterCommit(() -> evictNow(memberId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // "memberId:profileVersion"
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) return;
+        try {
+            Long memberId = Long.valueOf(body.substring(0, separator));
+            rememberVersion(memberId, Integer.parseInt(body.substring(separator + 1)));
+            local.remove(memberId);
+        } catch (NumberFormatException e) {
+            log.warn("프로필 버전 메시지 형식 오류 - body: {}", body);
+        }
+    }
+
+    // 새로 뜬 인스턴스는 떠 있지 않던 동안의 변경을 받지 못했으므로 Redis 에 남은 버전으로 표를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadVersions() {
+        long count = 0;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(VERSION_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+            List<String> keys = new ArrayList<>();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                }
+            }
+            for (int from = 0; from < keys.size(); from += SCAN_COUNT) {
+                List<String> batch = keys.subList(from, Math.min(keys.size(), from + SCAN_COUNT));
+                List<Object> versions = redisTemplate.opsForValue().multiGet(batch);
+                if (versions == null) continue;
+                for (int i = 0; i < batch.size(); i++) {
+                    if (versions.get(i) == null) continue;
+                    rememberVersion(Long.valueOf(batch.get(i).substring(VERSION_KEY_PREFIX.length())),
+                            Integer.parseInt(versions.get(i).toString()));
+                    count++;
+                }
+            }
+            log.info("회원 프로필 버전 표 초기화 완료 - 건수: {}", count);
+        } catch (Exception e) {
+            log.error("회원 프로필 버전 표 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.snapshot.version-prune-interval-ms:60000}")
+    public void pruneVersions() {
+        long now = System.currentTimeMillis();
+        latestVersions.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+
+    private void publishVersion(Long memberId, int profileVersion) {
+        rememberVersion(memberId, profileVersion);
+        try {
+            redisTemplate.opsForValue().set(VERSION_KEY_PREFIX + memberId, String.valueOf(profileVersion),
+                    Duration.ofMillis(jwtProperties.getAccessTokenExpiration()));
+            redisTemplate.convertAndSend(VERSION_CHANNEL, memberId + ":" + profileVersion);
+        } catch (Exception e) {
+            log.warn("회원 프로필 버전 전파 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+
+    // 버전은 커지기만 하므로 큰 값을 남긴다
+    private void rememberVersion(Long memberId, int profileVersion) {
+        long expiresAt = System.currentTimeMillis() + jwtProperties.getAccessTokenExpiration();
+        latestVersions.merge(memberId, new VersionEntry(profileVersion, expiresAt),
+                (current, next) -> current.version() > next.version() ? current : next);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictNow(Long memberId) {
+        local.remove(memberId);
+        try {
+            redisTemplate.execute(EVICT, List.of(KEY_PREFIX + memberId), String.valueOf(redisTtlMillis));
+        } catch (Exception e) {
+            log.warn("회원 스냅샷 캐시 삭제 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+
+    private void putLocal(MemberSnapshot snapshot, long now) {
+        if (local.size() >= LOCAL_MAX_SIZE) {
+            local.values().removeIf(e -> e.expiresAtMillis() <= now);
+            if (local.size() >= LOCAL_MAX_SIZE) {
+                local.clear();
+            }
+        }
+        local.put(snapshot.getId(), new LocalEntry(snapshot, now + localTtlMillis));
+    }
+
+    // 조회 실패 시 null, 없으면 빈 맵 (묘비만 있으면 gen 필드만 들어 있다)
+    private Map<Object, Object> readRedis(Long memberId) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + memberId);
+            return (fields != null) ? fields : Map.of();
+        } catch (Exception e) {
+            log.warn("회원 스냅샷 Redis 조회 실패, DB 조회로 대체 - memberId: {}, error: {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    private MemberSnapshot toSnapshot(Long memberId, Map<Object, Object> fields) {
+        if (fields == null || fields.get("email") == null) return null;
+        Object profileImageUrl = fields.get("profileImageUrl");
+        return MemberSnapshot.builder()
+                .id(memberId)
+                .email((String) fields.get("email"))
+                .nickname((String) fields.get("nickname"))
+                .profileImageUrl(profileImageUrl != null ? (String) profileImageUrl : null)
+                .accountScope(AccountScope.valueOf((String) fields.get("accountScope")))
+                .emailVerified(Boolean.parseBoolean((String) fields.get("emailVerified")))
+                .profileVersion(fields.get("profileVersion") != null
+                        ? Integer.parseInt((String) fields.get("profileVersion")) : 0)
+                .build();
+    }
+
+    private boolean writeRedis(MemberSnapshot snapshot, String generation) {
+        List<String> args = new ArrayList<>();
+        args.add(generation);
+        args.add(String.valueOf(snapshot.getProfileVersion()));
+        args.add(String.valueOf(redisTtlMillis));
+        addField(args, "email", snapshot.getEmail());
+        addField(args, "nickname", snapshot.getNickname());
+        addField(args, "profileImageUrl", snapshot.getProfileImageUrl());
+        addField(args, "accountScope", snapshot.getAccountScope().name());
+        addField(args, "emailVerified", String.valueOf(snapshot.isEmailVerified()));
+        addField(args, "profileVersion", String.valueOf(snapshot.getProfileVersion()));
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_CURRENT, List.of(KEY_PREFIX + snapshot.getId()),
+                    args.toArray());
+            return written != null && written == 1L;
+        } catch (Exception e) {
+            log.warn("회원 스냅샷 Redis 저장 실패 - memberId: {}, error: {}", snapshot.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void addField(List<String> args, String field, String value) {
+        if (value == null) return;
+        args.add(field);
+        args.add(value);
+    }
+
+    private record LocalEntry(MemberSnapshot snapshot, long expiresAtMillis) {
+    }
+
+    private record VersionEntry(int version, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.clody.global.auth;
+
+import com.clody.global.apiPayload.code.base.FailureCode;
+import com.clody.global.apiPayload.exception.base.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해싱/검증 전용 스레드 풀.
+ * CPU 를 많이 쓰는 해싱을 크기가 정해진 풀에서만 돌려, 로그인 폭주가 다른 API 의 요청 스레드와 CPU 를 잠식하지 않게 한다.
+ * 대기열이 가득 차거나 대기 시간이 초과되면 503 + Retry-After 로 바로 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final String METRIC_PREFIX = "clody.password.hashing";
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${auth.password.pool-size:0}")
+    private int poolSize;
+
+    @Value("${auth.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    @Value("${auth.password.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        // 기본값: 코어 수의 절반 (최소 1), 나머지 코어는 일반 요청 처리용으로 남긴다
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = Timer.builder(METRIC_PREFIX).tag("operation", "encode").register(meterRegistry);
+        matchesTimer = Timer.builder(METRIC_PREFIX).tag("operation", "matches").register(meterRegistry);
+        rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 설정된 cost 와 다른 BCrypt 해시인지 (로그인 성공 시 다시 해싱해 저장).
+    // BCryptPasswordEncoder.upgradeEncoding 은 cost 가 낮을 때만 true 이므로, cost 를 낮추는 경우도 잡도록 직접 비교한다
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = (encodedPassword != null) ? BCRYPT_PREFIX.matcher(encodedPassword) : null;
+        if (matcher == null || !matcher.find()) {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    private <T> T submit(Timer timer, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과 - queue: {}", executor.getQueue().size());
+            throw new RetryableException(FailureCode._SERVICE_UNAVAILABLE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기 시간 초과 - timeout: {}ms", timeoutMillis);
+            throw new RetryableException(FailureCode._SERVICE_UNAVAILABLE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RetryableException(FailureCode._SERVICE_UNAVAILABLE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
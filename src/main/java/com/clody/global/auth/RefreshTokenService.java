@@ -1,82 +1,162 @@
 package com.clody.global.auth;
 
-import com.clody.global.apiPayload.code.base.FailureCode;
-import com.clody.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
 
+/**
+ * 회원별 RefreshToken 세션 저장소.
+ * refresh_sessions:{memberId} 해시에 기기(세션)별로 sid → "토큰 SHA-256|만료 epoch ms" 를 보관하고,
+ * 생성/교체는 각각 Lua 스크립트 한 번으로 원자적으로 처리한다 (조회-비교-삭제-저장 사이의 경쟁 없음).
+ * 이전 형식의 refresh_token:{memberId} 단일 키는 재발급 시 세션으로 옮기고, 로그인 시 지운다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    private static final String SESSION_PREFIX = "refresh_sessions:";
+    private static final String LEGACY_PREFIX = "refresh_token:";
+
+    // 만료된 세션을 정리하고, 최대 세션 수를 넘으면 가장 먼저 만료되는 세션부터 밀어낸 뒤 새 세션을 저장
+    private static final RedisScript<Long> CREATE_SESSION = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[4])
+            local maxSessions = tonumber(ARGV[5])
+            local newExp = tonumber(ARGV[3])
+            local fields = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #fields, 2 do
+              local exp = tonumber(string.match(fields[i + 1], '|(%d+)$'))
+              if exp == nil or exp <= now then
+                redis.call('HDEL', KEYS[1], fields[i])
+              elseif fields[i] ~= ARGV[1] then
+                table.insert(live, {fields[i], exp})
+              end
+            end
+            table.sort(live, function(a, b) return a[2] < b[2] end)
+            local evict = #live - maxSessions + 1
+            local maxExp = newExp
+            for i = 1, #live do
+              if i <= evict then
+                redis.call('HDEL', KEYS[1], live[i][1])
+              elseif live[i][2] > maxExp then
+                maxExp = live[i][2]
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3])
+            redis.call('PEXPIREAT', KEYS[1], maxExp)
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    // 저장된 digest 가 제시된 토큰과 같을 때만 새 토큰으로 교체 (compare-and-swap)
+    private static final RedisScript<Long> ROTATE_SESSION = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then return 0 end
+            local digest, exp = string.match(current, '^(.-)|(%d+)$')
+            if exp == nil or tonumber(exp) <= tonumber(ARGV[5]) then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return 0
+            end
+            if digest ~= ARGV[2] then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4])
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[4]) - tonumber(ARGV[5]) then
+              redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // 이전 형식 단일 키의 토큰과 일치하면 단일 키를 지우고 세션 해시로 옮긴다
+    private static final RedisScript<Long> MIGRATE_LEGACY = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3] .. '|' .. ARGV[4])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[4]) - tonumber(ARGV[5]) then
+              redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
-    
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-
-    public void saveRefreshToken(Long memberId, String refreshToken, Date expiration) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        
-        // 만료 시간 계산
-        Duration ttl = Duration.between(
-                LocalDateTime.now(),
-                expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
-        );
-        
-        // Redis에 RefreshToken 저장
-        redisTemplate.opsForValue().set(key, refreshToken, ttl);
-        
-        log.debug("RefreshToken 저장 완료 - memberId: {}, expiration: {}", memberId, expiration);
+
+    @Value("${auth.refresh.max-sessions:5}")
+    private int maxSessions;
+
+    // 로그인: 새 세션 추가 (한 번의 왕복)
+    public void createSession(Long memberId, String sessionId, String refreshToken, Date expiration) {
+        redisTemplate.execute(CREATE_SESSION,
+                List.of(sessionKey(memberId), LEGACY_PREFIX + memberId),
+                sessionId, digest(refreshToken), String.valueOf(expiration.getTime()),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(maxSessions));
+
+        log.debug("RefreshToken 세션 저장 완료 - memberId: {}, sessionId: {}, expiration: {}",
+                memberId, sessionId, expiration);
     }
 
-    public String getRefreshToken(Long memberId) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        String refreshToken = (String) redisTemplate.opsForValue().get(key);
-        
-        if (refreshToken == null) {
-            log.warn("RefreshToken을 찾을 수 없습니다. memberId: {}", memberId);
-            throw new GeneralException(FailureCode.JWT_INVALID_TOKEN);
+    /**
+     * 재발급: 세션의 현재 토큰이 oldToken 일 때만 newToken 으로 교체한다.
+     * 이미 교체된(재사용된) 토큰이거나 세션이 없으면 false.
+     */
+    public boolean rotate(Long memberId, String sessionId, String oldToken, String newToken, Date newExpiration) {
+        Long result = redisTemplate.execute(ROTATE_SESSION,
+                List.of(sessionKey(memberId)),
+                sessionId, digest(oldToken), digest(newToken), String.valueOf(newExpiration.getTime()),
+                String.valueOf(System.currentTimeMillis()));
+        boolean rotated = result != null && result == 1L;
+        if (!rotated) {
+            log.warn("RefreshToken 세션 교체 실패 - memberId: {}, sessionId: {}", memberId, sessionId);
         }
-        
-        return refreshToken;
+        return rotated;
     }
 
-    public boolean validateRefreshToken(Long memberId, String refreshToken) {
-        try {
-            String savedToken = getRefreshToken(memberId);
-            boolean isValid = savedToken.equals(refreshToken);
-            
-            if (!isValid) {
-                log.warn("RefreshToken이 일치하지 않습니다. memberId: {}", memberId);
-            }
-            
-            return isValid;
-        } catch (GeneralException e) {
-            return false;
+    // sid 가 없는 이전 형식 토큰의 재발급: 단일 키와 비교 후 새 세션으로 옮긴다
+    public boolean rotateLegacy(Long memberId, String oldToken, String newSessionId, String newToken,
+                                Date newExpiration) {
+        Long result = redisTemplate.execute(MIGRATE_LEGACY,
+                List.of(LEGACY_PREFIX + memberId, sessionKey(memberId)),
+                oldToken, newSessionId, digest(newToken), String.valueOf(newExpiration.getTime()),
+                String.valueOf(System.currentTimeMillis()));
+        boolean rotated = result != null && result == 1L;
+        if (!rotated) {
+            log.warn("이전 형식 RefreshToken 이 일치하지 않습니다. memberId: {}", memberId);
         }
+        return rotated;
     }
 
-    public void deleteRefreshToken(Long memberId) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        Boolean deleted = redisTemplate.delete(key);
-        
-        log.debug("RefreshToken 삭제 - memberId: {}, deleted: {}", memberId, deleted);
+    // 로그아웃: 해당 기기 세션만 삭제
+    public void deleteSession(Long memberId, String sessionId) {
+        Long deleted = redisTemplate.opsForHash().delete(sessionKey(memberId), sessionId);
+
+        log.debug("RefreshToken 세션 삭제 - memberId: {}, sessionId: {}, deleted: {}", memberId, sessionId, deleted);
     }
 
     public void deleteAllRefreshTokens(Long memberId) {
-        // 현재는 사용자당 하나의 RefreshToken만 관리하므로 동일한 동작
-        deleteRefreshToken(memberId);
+        Long deleted = redisTemplate.delete(List.of(sessionKey(memberId), LEGACY_PREFIX + memberId));
+
+        log.debug("RefreshToken 전체 삭제 - memberId: {}, deleted: {}", memberId, deleted);
     }
 
-    public boolean existsRefreshToken(Long memberId) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private String sessionKey(Long memberId) {
+        return SESSION_PREFIX + memberId;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
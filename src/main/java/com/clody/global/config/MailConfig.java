@@ -1,5 +1,6 @@
 package com.clody.global.config;
 
+import com.clody.global.email.SmtpTransportPool;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +33,26 @@ public class MailConfig {
     @Value("${spring.mail.properties.mail.smtp.starttls.required}")
     private boolean starttlsRequired;
 
+    @Value("${email.smtp.timeout-ms:10000}")
+    private int timeoutMs;
+
+    @Value("${email.smtp.pool.max-size:4}")
+    private int poolMaxSize;
+
+    // 한 연결로 보낼 최대 메일 수. 넘으면 닫고 새로 연다 (서버의 연결당 메일 수 제한 대비)
+    @Value("${email.smtp.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${email.smtp.pool.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+
+    // 이 시간 이상 쉰 연결은 빌려주기 전에 NOOP 으로 확인
+    @Value("${email.smtp.pool.validate-after-ms:5000}")
+    private long validateAfterMs;
+
+    @Value("${email.smtp.pool.borrow-timeout-ms:10000}")
+    private long borrowTimeoutMs;
+
     @Bean
     public JavaMailSender javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -47,7 +68,19 @@ public class MailConfig {
         props.put("mail.smtp.starttls.enable", starttlsEnable);
         props.put("mail.smtp.starttls.required", starttlsRequired);
         props.put("mail.debug", "false");
+        // 풀에서 오래 쓰는 연결이 멈춘 서버에 묶여 있지 않도록 타임아웃을 둔다
+        props.put("mail.smtp.connectiontimeout", String.valueOf(timeoutMs));
+        props.put("mail.smtp.timeout", String.valueOf(timeoutMs));
+        props.put("mail.smtp.writetimeout", String.valueOf(timeoutMs));
 
         return mailSender;
     }
+
+    // 발송은 이 풀을 통해 인증된 연결을 재사용한다 (JavaMailSender 는 MimeMessage 생성용)
+    @Bean(destroyMethod = "close")
+    public SmtpTransportPool smtpTransportPool(JavaMailSender javaMailSender) {
+        return new SmtpTransportPool(((JavaMailSenderImpl) javaMailSender).getSession(),
+                host, port, username, password,
+                poolMaxSize, maxMessagesPerConnection, idleTimeoutMs, validateAfterMs, borrowTimeoutMs);
+    }
 }
\ No newline at end of file
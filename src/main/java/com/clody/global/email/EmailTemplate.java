@@ -0,0 +1,15 @@
+package com.clody.global.email;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// classpath:templates/email/{fileName}.html
+@Getter
+@RequiredArgsConstructor
+public enum EmailTemplate {
+    VERIFICATION_CODE("verification-code"),
+    PASSWORD_RESET("password-reset"),
+    CONNECTION_TEST("connection-test");
+
+    private final String fileName;
+}
@@ -0,0 +1,119 @@
+package com.clody.global.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 메일 HTML 템플릿 캐시.
+ * 기동 시 모든 템플릿을 classpath 스트림으로 한 번 읽어 (jar 안에서도 동작) 고정 문자열과 ${name} 자리로 미리 쪼개 두고,
+ * 발송 시에는 조각을 이어 붙이기만 한다. 템플릿이 없거나 깨졌으면 기동 자체를 실패시킨다.
+ */
+@Slf4j
+@Component
+public class EmailTemplateEngine {
+
+    private static final String TEMPLATE_PATH = "templates/email/%s.html";
+    private static final int BUFFER_POOL_SIZE = 16;
+    // 이보다 커진 버퍼는 풀에 돌려놓지 않는다
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private final Map<EmailTemplate, Compiled> templates = new EnumMap<>(EmailTemplate.class);
+    private final ArrayBlockingQueue<StringBuilder> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
+    // literals.length == names.length + 1, literals[0] names[0] literals[1] ... 순서로 이어 붙인다
+    private record Compiled(String[] literals, String[] names, int literalLength) {
+    }
+
+    @PostConstruct
+    void load() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            String path = TEMPLATE_PATH.formatted(template.getFileName());
+            try (InputStream in = new ClassPathResource(path).getInputStream()) {
+                templates.put(template, compile(new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다: " + path, e);
+            }
+        }
+        log.info("메일 템플릿 로드 완료 - {}개", templates.size());
+    }
+
+    /**
+     * 템플릿의 ${name} 을 values 의 값(HTML 이스케이프)으로 채운다. 값이 없는 자리는 빈 문자열.
+     */
+    public String render(EmailTemplate template, Map<String, String> values) {
+        Compiled compiled = templates.get(template);
+        StringBuilder sb = borrow(compiled.literalLength() + 64);
+        try {
+            String[] literals = compiled.literals();
+            String[] names = compiled.names();
+            for (int i = 0; i < names.length; i++) {
+                sb.append(literals[i]);
+                appendEscaped(sb, values.get(names[i]));
+            }
+            sb.append(literals[names.length]);
+            return sb.toString();
+        } finally {
+            giveBack(sb);
+        }
+    }
+
+    private static Compiled compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalLength = 0;
+        int from = 0;
+        while (true) {
+            int start = source.indexOf("${", from);
+            int end = (start < 0) ? -1 : source.indexOf('}', start + 2);
+            if (start < 0 || end < 0) break;
+            String literal = source.substring(from, start);
+            literals.add(literal);
+            literalLength += literal.length();
+            names.add(source.substring(start + 2, end).trim());
+            from = end + 1;
+        }
+        String tail = source.substring(from);
+        literals.add(tail);
+        literalLength += tail.length();
+        return new Compiled(literals.toArray(String[]::new), names.toArray(String[]::new), literalLength);
+    }
+
+    private StringBuilder borrow(int capacity) {
+        StringBuilder sb = buffers.poll();
+        if (sb == null) return new StringBuilder(capacity);
+        sb.ensureCapacity(capacity);
+        return sb;
+    }
+
+    private void giveBack(StringBuilder sb) {
+        if (sb.capacity() > MAX_POOLED_CAPACITY) return;
+        sb.setLength(0);
+        buffers.offer(sb);
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        if (value == null) return;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
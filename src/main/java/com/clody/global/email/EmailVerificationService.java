@@ -2,6 +2,8 @@ package com.clody.global.email;
 
 import com.clody.domain.member.exception.MemberErrorCode;
 import com.clody.domain.member.exception.MemberException;
+import com.clody.global.email.outbox.EmailOutboxService;
+import com.clody.global.email.outbox.EmailType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +19,7 @@ import java.time.Duration;
 public class EmailVerificationService {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     
     @Value("${email.send.enabled:true}")
     private boolean emailSendEnabled;
@@ -34,27 +36,17 @@ public class EmailVerificationService {
         // Redis에 인증번호 저장 (5분 만료)
         redisTemplate.opsForValue().set(key, verificationCode, VERIFICATION_CODE_EXPIRATION);
         
-        try {
-            if (emailSendEnabled) {
-                // 실제 이메일 발송
-                emailService.sendVerificationEmail(email, verificationCode);
-                log.info("실제 이메일 발송 완료 - email: {}", email);
-            } else {
-                // 개발환경에서는 콘솔에 인증번호 출력
-                log.info("=== 이메일 인증번호 (콘솔 출력) ===");
-                log.info("이메일: {}", email);
-                log.info("인증번호: {}", verificationCode);
-                log.info("만료시간: 5분");
-                log.info("================================");
-            }
-        } catch (Exception e) {
-            log.error("이메일 발송 실패, 콘솔 로그로 대체 - email: {}, error: {}", email, e.getMessage());
-            // 이메일 발송 실패 시 콘솔 로그로 대체
-            log.info("=== 이메일 인증번호 (발송 실패, 콘솔 출력) ===");
+        if (emailSendEnabled) {
+            // 발송은 outbox 워커가 비동기로 처리 (SMTP 응답을 기다리지 않음)
+            emailOutboxService.enqueue(EmailType.VERIFICATION, email, verificationCode, VERIFICATION_CODE_EXPIRATION);
+            log.info("이메일 발송 예약 완료 - email: {}", email);
+        } else {
+            // 개발환경에서는 콘솔에 인증번호 출력
+            log.info("=== 이메일 인증번호 (콘솔 출력) ===");
             log.info("이메일: {}", email);
             log.info("인증번호: {}", verificationCode);
             log.info("만료시간: 5분");
-            log.info("==========================================");
+            log.info("================================");
         }
         
         return verificationCode;
@@ -104,26 +96,16 @@ public class EmailVerificationService {
         // Redis에 인증번호 저장 (5분 만료)
         redisTemplate.opsForValue().set(key, verificationCode, VERIFICATION_CODE_EXPIRATION);
         
-        try {
-            if (emailSendEnabled) {
-                // 실제 이메일 발송
-                emailService.sendPasswordResetEmail(email, verificationCode);
-                log.info("비밀번호 변경용 이메일 발송 완료 - email: {}", email);
-            } else {
-                // 개발환경에서는 콘솔에 인증번호 출력
-                log.info("=== 비밀번호 변경용 인증번호 (콘솔 출력) ===");
-                log.info("이메일: {}", email);
-                log.info("인증번호: {}", verificationCode);
-                log.info("만료시간: 5분");
-                log.info("==========================================");
-            }
-        } catch (Exception e) {
-            log.error("비밀번호 변경용 이메일 발송 실패, 콘솔 로그로 대체 - email: {}, error: {}", email, e.getMessage());
-            log.info("=== 비밀번호 변경용 인증번호 (발송 실패, 콘솔 출력) ===");
+        if (emailSendEnabled) {
+            emailOutboxService.enqueue(EmailType.PASSWORD_RESET, email, verificationCode, VERIFICATION_CODE_EXPIRATION);
+            log.info("비밀번호 변경용 이메일 발송 예약 완료 - email: {}", email);
+        } else {
+            // 개발환경에서는 콘솔에 인증번호 출력
+            log.info("=== 비밀번호 변경용 인증번호 (콘솔 출력) ===");
             log.info("이메일: {}", email);
             log.info("인증번호: {}", verificationCode);
             log.info("만료시간: 5분");
-            log.info("======================================================");
+            log.info("==========================================");
         }
         
         return verificationCode;
@@ -0,0 +1,183 @@
+package com.clody.global.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증까지 끝난 SMTP 연결을 재사용하는 풀.
+ * JavaMailSender.send 는 메일마다 연결 + STARTTLS + AUTH 를 새로 하므로, 연결을 최대 maxSize 개까지 열어두고 돌려 쓴다.
+ * 오래 쉬던 연결은 빌려줄 때 NOOP 으로 확인하고, idleTimeout 이 지난 연결과 maxMessagesPerConnection 만큼 보낸 연결은 닫는다.
+ */
+@Slf4j
+public class SmtpTransportPool implements AutoCloseable {
+
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutMs;
+    private final long validateAfterMs;
+    private final long borrowTimeoutMs;
+
+    // 동시에 열 수 있는 연결 수
+    private final Semaphore capacity;
+    // 최근에 쓴 연결이 앞쪽. 앞에서 꺼내고 뒤에서부터 만료시킨다
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed;
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int sent;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+    public SmtpTransportPool(Session session, String host, int port, String username, String password,
+                             int maxSize, int maxMessagesPerConnection, long idleTimeoutMs,
+                             long validateAfterMs, long borrowTimeoutMs) {
+        this.session = session;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validateAfterMs = validateAfterMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.capacity = new Semaphore(maxSize, true);
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+        if (closed) throw new MessagingException("SMTP 연결 풀이 닫혔습니다");
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        // Transport.send 와 달리 sendMessage 는 헤더(Message-ID 등)를 채워주지 않는다
+        message.saveChanges();
+
+        try {
+            if (!capacity.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("사용 가능한 SMTP 연결이 없습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결 대기 중 인터럽트", e);
+        }
+
+        try {
+            PooledTransport connection = borrowIdle();
+            if (connection != null) {
+                try {
+                    sendOn(connection, message);
+                    return;
+                } catch (SendFailedException e) {
+                    // 수신자 거부 등 메시지 자체의 문제는 연결을 바꿔도 같다
+                    throw e;
+                } catch (MessagingException e) {
+                    // 재사용한 연결이 서버 쪽에서 끊겼을 수 있으므로 새 연결로 한 번만 다시 보낸다
+                    log.debug("재사용 SMTP 연결로 발송 실패, 새 연결로 재시도: {}", e.getMessage());
+                }
+            }
+            sendOn(open(), message);
+        } finally {
+            capacity.release();
+        }
+    }
+
+    // 보낸 뒤 연결은 풀로 돌려놓는다. 수신자 거부는 연결이 멀쩡하므로 돌려놓고, 그 외 실패는 상태를 알 수 없으므로 닫는다
+    private void sendOn(PooledTransport connection, MimeMessage message) throws MessagingException {
+        try {
+            connection.transport.sendMessage(message, message.getAllRecipients());
+        } catch (SendFailedException e) {
+            connection.lastUsedAt = System.currentTimeMillis();
+            giveBack(connection);
+            throw e;
+        } catch (MessagingException | RuntimeException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        connection.sent++;
+        connection.lastUsedAt = System.currentTimeMillis();
+        giveBack(connection);
+    }
+
+    private PooledTransport borrowIdle() {
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - connection.lastUsedAt;
+            if (idleFor > idleTimeoutMs) {
+                closeQuietly(connection);
+                continue;
+            }
+            // 한동안 쓰지 않은 연결만 NOOP 으로 확인한다 (SMTPTransport.isConnected)
+            if (idleFor > validateAfterMs && !connection.transport.isConnected()) {
+                closeQuietly(connection);
+                continue;
+            }
+            return connection;
+        }
+        return null;
+    }
+
+    private PooledTransport open() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(host, port, username, password);
+        log.debug("SMTP 연결 생성 - {}:{}", host, port);
+        return new PooledTransport(transport);
+    }
+
+    private void giveBack(PooledTransport connection) {
+        if (closed || connection.sent >= maxMessagesPerConnection) {
+            closeQuietly(connection);
+            return;
+        }
+        idle.offerFirst(connection);
+    }
+
+    // 오래 쉬고 있는 연결을 정리 (서버가 먼저 끊기 전에 닫는다)
+    @Scheduled(fixedDelayString = "${email.smtp.pool.evict-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledTransport connection = it.next();
+            if (now - connection.lastUsedAt <= idleTimeoutMs) break;
+            if (idle.remove(connection)) {
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            closeQuietly(connection);
+        }
+    }
+
+    private void closeQuietly(PooledTransport connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+}
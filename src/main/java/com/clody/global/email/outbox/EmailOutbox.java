@@ -0,0 +1,55 @@
+package com.clody.global.email.outbox;
+
+import com.clody.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(
+        name = "email_outbox",
+        indexes = {
+                // 워커의 claim 조회: status 별로 next_attempt_at 이 지난 것부터
+                @Index(name = "idx_email_outbox_status_next", columnList = "status, next_attempt_at")
+        }
+)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private EmailType type;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    // 인증번호. 발송 완료/폐기 시 지운다
+    @Column(name = "payload", length = 100)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 이 시각이 지나면 보내도 의미가 없으므로 발송하지 않고 DEAD 처리
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,231 @@
+package com.clody.global.email.outbox;
+
+import com.clody.global.email.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * email_outbox 를 비우는 워커.
+ * 발송할 행을 FOR UPDATE SKIP LOCKED 로 가져가(SENDING + 임대 시각) 여러 인스턴스가 같은 메일을 보내지 않게 하고,
+ * 가상 스레드에서 동시에 발송한다. 실패하면 지수 백오프로 다시 PENDING 에 넣고, 한도를 넘거나 만료되면 DEAD 로 남긴다.
+ * 발송 도중 인스턴스가 죽으면 임대 시각이 지난 SENDING 행을 다른 워커가 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final String CLAIM_SQL = """
+            update email_outbox o
+            set status = 'SENDING', attempts = o.attempts + 1, next_attempt_at = ?, updated_at = ?
+            where o.id in (
+                select id from email_outbox
+                where status in ('PENDING', 'SENDING') and next_attempt_at <= ?
+                order by next_attempt_at
+                limit ?
+                for update skip locked
+            )
+            returning o.id, o.type, o.recipient, o.payload, o.attempts, o.expires_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailService emailService;
+    private final ExecutorService virtualThreadExecutor;
+
+    // 동시에 진행하는 발송 수 상한 (SMTP 연결 풀 크기와 맞춘다)
+    private final Semaphore permits;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean rerun;
+
+    @Value("${email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${email.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    // SENDING 상태로 잡아두는 시간. 이 안에 결과가 기록되지 않으면 다시 발송 대상이 된다
+    @Value("${email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    @Value("${email.outbox.sent-retention-hours:24}")
+    private long sentRetentionHours;
+
+    public EmailOutboxDispatcher(JdbcTemplate jdbcTemplate,
+                                 EmailService emailService,
+                                 @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor,
+                                 @Value("${email.outbox.concurrency:4}") int concurrency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.emailService = emailService;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    private record Claimed(long id, EmailType type, String recipient, String payload, int attempts,
+                           LocalDateTime expiresAt) {
+    }
+
+    // 새 메일이 커밋되면 다음 주기를 기다리지 않고 바로 비운다
+    public void wakeUp() {
+        virtualThreadExecutor.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    // 보존 기간이 지난 SENT 행 정리 (DEAD 는 확인용으로 남겨둔다)
+    @Scheduled(fixedDelayString = "${email.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        int deleted = jdbcTemplate.update("delete from email_outbox where status = 'SENT' and updated_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(sentRetentionHours)));
+        if (deleted > 0) {
+            log.info("발송 완료 메일 정리 - {}건", deleted);
+        }
+    }
+
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            // 이미 비우는 중이면 끝난 뒤 한 번 더 돌도록 표시만 한다
+            rerun = true;
+            return;
+        }
+        try {
+            do {
+                rerun = false;
+                while (claimAndDispatch()) {
+                    // 가져온 만큼 꽉 찼으면 남은 행이 더 있을 수 있으므로 계속
+                }
+            } while (rerun);
+        } catch (Exception e) {
+            log.error("메일 outbox 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    // 빈 발송 슬롯 수만큼 가져와 발송을 시작한다. 슬롯을 모두 채웠으면 true
+    private boolean claimAndDispatch() {
+        int available = permits.drainPermits();
+        if (available == 0) return false;
+
+        List<Claimed> claimed;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            claimed = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, rowNum) -> new Claimed(
+                            rs.getLong("id"),
+                            EmailType.valueOf(rs.getString("type")),
+                            rs.getString("recipient"),
+                            rs.getString("payload"),
+                            rs.getInt("attempts"),
+                            rs.getTimestamp("expires_at").toLocalDateTime()),
+                    Timestamp.valueOf(now.plusNanos(leaseMs * 1_000_000)), Timestamp.valueOf(now),
+                    Timestamp.valueOf(now), available);
+        } catch (RuntimeException e) {
+            permits.release(available);
+            throw e;
+        }
+
+        permits.release(available - claimed.size());
+        for (Claimed email : claimed) {
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    send(email);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        return !claimed.isEmpty() && claimed.size() == available;
+    }
+
+    private void send(Claimed email) {
+        if (email.expiresAt().isBefore(LocalDateTime.now())) {
+            markDead(email, "발송 전에 만료됨");
+            return;
+        }
+        try {
+            switch (email.type()) {
+                case VERIFICATION -> emailService.sendVerificationEmail(email.recipient(), email.payload());
+                case PASSWORD_RESET -> emailService.sendPasswordResetEmail(email.recipient(), email.payload());
+            }
+            int updated = jdbcTemplate.update("""
+                    update email_outbox set status = 'SENT', payload = null, last_error = null, updated_at = ?
+                    where id = ? and status = 'SENDING' and attempts = ?
+                    """, Timestamp.valueOf(LocalDateTime.now()), email.id(), email.attempts());
+            warnIfLeaseLost(email, updated);
+        } catch (Exception e) {
+            String error = truncate(rootMessage(e));
+            if (email.attempts() >= maxAttempts) {
+                markDead(email, error);
+                return;
+            }
+            long delay = backoffMillis(email.attempts());
+            int updated = jdbcTemplate.update("""
+                    update email_outbox set status = 'PENDING', next_attempt_at = ?, last_error = ?, updated_at = ?
+                    where id = ? and status = 'SENDING' and attempts = ?
+                    """, Timestamp.valueOf(LocalDateTime.now().plusNanos(delay * 1_000_000)), error,
+                    Timestamp.valueOf(LocalDateTime.now()), email.id(), email.attempts());
+            if (warnIfLeaseLost(email, updated)) return;
+            log.warn("메일 발송 실패, 재시도 예약 - id: {}, attempts: {}, delayMs: {}, error: {}",
+                    email.id(), email.attempts(), delay, error);
+        }
+    }
+
+    private void markDead(Claimed email, String error) {
+        int updated = jdbcTemplate.update("""
+                update email_outbox set status = 'DEAD', payload = null, last_error = ?, updated_at = ?
+                where id = ? and status = 'SENDING' and attempts = ?
+                """, truncate(error), Timestamp.valueOf(LocalDateTime.now()), email.id(), email.attempts());
+        if (warnIfLeaseLost(email, updated)) return;
+        log.error("메일 발송 포기 - id: {}, type: {}, recipient: {}, attempts: {}, error: {}",
+                email.id(), email.type(), email.recipient(), email.attempts(), error);
+    }
+
+    /**
+     * 결과는 이 워커가 가져간 시도(SENDING + attempts)가 아직 그대로일 때만 기록한다.
+     * 임대가 끝나 다른 워커가 다시 가져갔으면 그쪽 결과가 최종이므로, 여기서 덮어쓰지 않고 로그만 남긴다.
+     */
+    private boolean warnIfLeaseLost(Claimed email, int updated) {
+        if (updated > 0) return false;
+        log.warn("메일 발송 결과 기록 생략 (임대 만료 후 다른 워커가 가져감) - id: {}, attempts: {}",
+                email.id(), email.attempts());
+        return true;
+    }
+
+    // base * 2^(attempts-1) 을 상한으로 자르고 ±20% 지터를 준다
+    private long backoffMillis(int attempts) {
+        long exp = backoffBaseMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(exp, backoffMaxMs);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+
+    private static String truncate(String message) {
+        if (message == null) return null;
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,6 @@
+package com.clody.global.email.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+}
@@ -0,0 +1,52 @@
+package com.clody.global.email.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 요청을 email_outbox 에 적재한다. 실제 SMTP 발송은 EmailOutboxDispatcher 가 비동기로 처리하므로
+ * API 는 SMTP 서버 응답을 기다리지 않는다. 호출자의 트랜잭션에 함께 커밋되고, 커밋 직후 워커를 깨운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+
+    public void enqueue(EmailType type, String recipient, String payload, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .type(type)
+                .recipient(recipient)
+                .payload(payload)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+
+        log.debug("메일 발송 적재 - id: {}, type: {}, recipient: {}", outbox.getId(), type, recipient);
+        afterCommit(emailOutboxDispatcher::wakeUp);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
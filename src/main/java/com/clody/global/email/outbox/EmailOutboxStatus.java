@@ -0,0 +1,8 @@
+package com.clody.global.email.outbox;
+
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 워커가 가져가 발송 중. next_attempt_at 이 지나도록 남아 있으면 다시 가져간다
+    SENT,
+    DEAD        // 재시도 한도 초과 또는 인증번호 만료
+}
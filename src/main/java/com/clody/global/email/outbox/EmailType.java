@@ -0,0 +1,6 @@
+package com.clody.global.email.outbox;
+
+public enum EmailType {
+    VERIFICATION,   // 회원가입 이메일 인증번호
+    PASSWORD_RESET  // 비밀번호 변경 인증번호
+}
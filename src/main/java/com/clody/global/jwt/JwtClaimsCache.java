@@ -0,0 +1,65 @@
+package com.clody.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims 를 토큰 만료 시각까지 보관하는 LRU 캐시.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 써서 메모리와 노출 범위를 줄인다.
+ */
+final class JwtClaimsCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > JwtClaimsCache.this.maxSize;
+            }
+        };
+    }
+
+    Claims get(String digest) {
+        synchronized (entries) {
+            Entry entry = entries.get(digest);
+            if (entry == null) return null;
+            if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                // 만료된 토큰은 다시 파싱해서 만료 예외가 나도록 지운다
+                entries.remove(digest);
+                return null;
+            }
+            return entry.claims();
+        }
+    }
+
+    void put(String digest, Claims claims) {
+        if (maxSize <= 0) return;
+        Date expiration = claims.getExpiration();
+        if (expiration == null) return;
+        synchronized (entries) {
+            entries.put(digest, new Entry(claims, expiration.getTime()));
+        }
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+}
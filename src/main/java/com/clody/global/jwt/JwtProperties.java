@@ -13,4 +13,6 @@ public class JwtProperties {
     private String secret;
     private Long accessTokenExpiration;
     private Long refreshTokenExpiration;
+    // 검증된 토큰 claims 캐시 최대 건수 (0 이면 캐시 사용 안 함)
+    private int claimsCacheMaxSize = 10_000;
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.clody.global.jwt;
 
+import com.clody.domain.member.entity.AccountScope;
+import com.clody.domain.member.entity.Member;
 import com.clody.domain.member.exception.MemberErrorCode;
 import com.clody.domain.member.exception.MemberException;
 import com.clody.global.apiPayload.code.base.FailureCode;
 import com.clody.global.apiPayload.exception.GeneralException;
+import com.clody.global.auth.AuthPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,6 +19,7 @@ import javax.crypto.SecretKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -23,30 +28,52 @@ public class JwtUtil {
 
     private final JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey() {
+    // 키와 파서는 불변·스레드 안전하므로 기동 시 한 번만 만든다
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private JwtClaimsCache claimsCache;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .setSigningKey(signingKey)
+                .build();
+        this.claimsCache = new JwtClaimsCache(jwtProperties.getClaimsCacheMaxSize());
+    }
+
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
 
-    public String generateAccessToken(String email, Long memberId) {
+    // 조회 API 가 DB 없이 쓸 수 있도록 닉네임, 공개 범위, 프로필 버전을 함께 담는다
+    // sid 는 같은 로그인 세션(기기)의 RefreshToken 과 공유한다
+    public String generateAccessToken(Member member, String sessionId) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenExpiration());
         
         return Jwts.builder()
-                .setSubject(email)
-                .claim("memberId", memberId)
+                .setSubject(member.getEmail())
+                .claim("memberId", member.getId())
+                .claim("nickname", member.getNickname())
+                .claim("accountScope", member.getAccountScope().name())
+                .claim("pv", member.getProfileVersion())
+                .claim("sid", sessionId)
                 .claim("type", "access")
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String generateRefreshToken(String email, Long memberId) {
+    public String generateRefreshToken(String email, Long memberId, String sessionId) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenExpiration());
         
         return Jwts.builder()
                 .setSubject(email)
                 .claim("memberId", memberId)
+                .claim("sid", sessionId)
                 .claim("type", "refresh")
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
@@ -54,11 +81,25 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 같은 토큰은 만료 전까지 서명 검증을 한 번만 한다
     public Claims parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            log.warn("JWT token claims string is empty");
+            throw new GeneralException(FailureCode.JWT_CLAIMS_EMPTY);
+        }
+        String digest = JwtClaimsCache.digest(token);
+        Claims cached = claimsCache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = verify(token);
+        claimsCache.put(digest, claims);
+        return claims;
+    }
+
+    private Claims verify(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -76,16 +117,47 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.warn("JWT token claims string is empty: {}", e.getMessage());
             throw new GeneralException(FailureCode.JWT_CLAIMS_EMPTY);
+        } catch (JwtException e) {
+            // 서명 불일치(io.jsonwebtoken.security.SignatureException) 등 나머지 검증 실패
+            log.warn("JWT validation failed: {}", e.getMessage());
+            throw new GeneralException(FailureCode.JWT_INVALID_TOKEN);
         }
     }
 
+    public AuthPrincipal getPrincipalFromToken(String token) {
+        Claims claims = parseToken(token);
+        String accountScope = claims.get("accountScope", String.class);
+        Number profileVersion = claims.get("pv", Number.class);
+        return AuthPrincipal.builder()
+                .memberId(memberIdOf(claims))
+                .nickname(claims.get("nickname", String.class))
+                .accountScope(accountScope != null ? AccountScope.valueOf(accountScope) : null)
+                .profileVersion(profileVersion != null ? profileVersion.intValue() : 0)
+                .sessionId(claims.get("sid", String.class))
+                .tokenId(claims.getId())
+                .expiresAt(claims.getExpiration())
+                .build();
+    }
+
+    // 로그인 세션 id, 이전 형식 토큰이면 null
+    public String getSessionIdFromToken(String token) {
+        return parseToken(token).get("sid", String.class);
+    }
+
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
     public String getEmailFromToken(String token) {
         Claims claims = parseToken(token);
         return claims.getSubject();
     }
 
     public Long getMemberIdFromToken(String token) {
-        Claims claims = parseToken(token);
+        return memberIdOf(parseToken(token));
+    }
+
+    private Long memberIdOf(Claims claims) {
         Object raw = claims.get("memberId");
 
         if (raw == null) {
@@ -0,0 +1,121 @@
+package com.clody.global.ratelimit;
+
+import com.clody.global.apiPayload.ApiResponse;
+import com.clody.global.apiPayload.code.ErrorReasonDTO;
+import com.clody.global.apiPayload.code.base.FailureCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 메일 발송 / 로그인처럼 인증 없이 호출되면서 SMTP·BCrypt 를 쓰는 API 의 요청 한도를 적용한다.
+ * JwtAuthenticationFilter 보다 앞에서 실행되며, 한도를 넘으면 429 + Retry-After 로 바로 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // email 추출을 위해 읽을 본문의 최대 크기 (이보다 크면 IP 버킷만 적용)
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        List<RateLimiter.Bucket> buckets = new ArrayList<>(2);
+        buckets.add(new RateLimiter.Bucket(rule.getPath() + ":ip:" + clientIp(request),
+                rule.getIpCapacity(), rule.getIpRefillPerMinute()));
+
+        if (rule.getEmailCapacity() > 0) {
+            CachedBodyRequest cached = cacheBody(request);
+            if (cached != null) {
+                target = cached;
+                String email = extractEmail(cached.getBody());
+                if (email != null) {
+                    buckets.add(new RateLimiter.Bucket(rule.getPath() + ":email:" + email,
+                            rule.getEmailCapacity(), rule.getEmailRefillPerMinute()));
+                }
+            }
+        }
+
+        long waitMillis = rateLimiter.tryTake(buckets);
+        if (waitMillis > 0) {
+            log.warn("요청 한도 초과 - path: {}, ip: {}", rule.getPath(), clientIp(request));
+            reject(response, waitMillis);
+            return;
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        if (!rateLimitProperties.isEnabled()) return null;
+        String uri = request.getRequestURI();
+        for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+            if (rule.getPath().equals(uri) && rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 프록시 뒤에서는 server.forward-headers-strategy 에 따라 신뢰할 수 있는 프록시가 넘긴 클라이언트 주소가 들어온다
+    private String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    // 길이가 선언된 작은 본문만 메모리에 올린다 (길이를 모르거나 큰 본문은 IP 버킷만 적용)
+    private CachedBodyRequest cacheBody(HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        if (length <= 0 || length > MAX_BODY_BYTES) return null;
+        return new CachedBodyRequest(request, request.getInputStream().readNBytes((int) length));
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) return null;
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러의 검증에 맡긴다
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) throws IOException {
+        ErrorReasonDTO dto = FailureCode._TOO_MANY_REQUESTS.getReasonHttpStatus();
+        response.setStatus(dto.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.onFailure(dto.getCode(), dto.getMessage(), null));
+    }
+}
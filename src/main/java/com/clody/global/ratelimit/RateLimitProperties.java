@@ -0,0 +1,57 @@
+package com.clody.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 없이 호출되는 비싼 API(메일 발송, 로그인)의 경로별 요청 한도.
+ * 각 규칙은 IP 별 버킷과 (선택) 요청 본문 email 별 버킷을 가지며, 두 버킷 모두 토큰이 있어야 통과한다.
+ * IP 는 request.getRemoteAddr() 를 쓴다. 리버스 프록시/로드밸런서 뒤에서는 server.forward-headers-strategy 로
+ * X-Forwarded-For 를 반영해야 하며, 그렇지 않으면 모든 클라이언트가 프록시 IP 버킷 하나를 나눠 쓰게 된다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private List<Rule> rules = defaultRules();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method = "POST";
+        private String path;
+        // 버킷 크기(순간 허용량)와 분당 보충량
+        private int ipCapacity;
+        private double ipRefillPerMinute;
+        // 0 이면 email 버킷을 쓰지 않는다
+        private int emailCapacity;
+        private double emailRefillPerMinute;
+
+        static Rule of(String path, int ipCapacity, double ipRefillPerMinute,
+                       int emailCapacity, double emailRefillPerMinute) {
+            Rule rule = new Rule();
+            rule.setPath(path);
+            rule.setIpCapacity(ipCapacity);
+            rule.setIpRefillPerMinute(ipRefillPerMinute);
+            rule.setEmailCapacity(emailCapacity);
+            rule.setEmailRefillPerMinute(emailRefillPerMinute);
+            return rule;
+        }
+    }
+
+    private static List<Rule> defaultRules() {
+        List<Rule> rules = new ArrayList<>();
+        rules.add(Rule.of("/api/members/email/send", 10, 10, 3, 0.5));
+        rules.add(Rule.of("/api/members/password/send-verification", 10, 10, 3, 0.5));
+        rules.add(Rule.of("/api/auth/login", 30, 30, 10, 5));
+        return rules;
+    }
+}
@@ -0,0 +1,117 @@
+package com.clody.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 토큰 버킷. 여러 버킷(IP, email)을 Lua 스크립트 한 번으로 함께 확인하고 모두 여유가 있을 때만 1개씩 소모한다.
+ * 거절된 키는 다시 채워질 때까지 로컬에 기억해 두고, 그동안의 요청은 Redis 호출 없이 바로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    // 버킷별 대기 시간(ms) 목록을 돌려준다. 모두 0 이면 허용(토큰 소모), 하나라도 양수면 거절(소모 없음)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> TAKE = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local states = {}
+            local waits = {}
+            local allowed = true
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i * 2 - 1])
+              local rate = tonumber(ARGV[i * 2])
+              local data = redis.call('HMGET', key, 'tokens', 'ts')
+              local tokens = tonumber(data[1]) or capacity
+              local ts = tonumber(data[2]) or now
+              tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+              waits[i] = 0
+              if tokens < 1 then
+                waits[i] = math.ceil((1 - tokens) / rate)
+                allowed = false
+              end
+              states[i] = {tokens, capacity, rate}
+            end
+            for i, key in ipairs(KEYS) do
+              local tokens = states[i][1]
+              if allowed then tokens = tokens - 1 end
+              redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+              redis.call('PEXPIRE', key, math.ceil(states[i][2] / states[i][3]))
+            end
+            return waits
+            """, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    public record Bucket(String key, int capacity, double refillPerMinute) {
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 거절 및 재시도까지 남은 ms
+     */
+    public long tryTake(List<Bucket> buckets) {
+        long now = System.currentTimeMillis();
+        for (Bucket bucket : buckets) {
+            Long until = blockedUntil.get(bucket.key());
+            if (until != null) {
+                if (until > now) return until - now;
+                blockedUntil.remove(bucket.key(), until);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<Object> args = new ArrayList<>(buckets.size() * 2);
+        for (Bucket bucket : buckets) {
+            keys.add(KEY_PREFIX + bucket.key());
+            args.add(String.valueOf(bucket.capacity()));
+            args.add(String.valueOf(bucket.refillPerMinute() / 60_000d));
+        }
+
+        List<?> waits;
+        try {
+            waits = redisTemplate.execute(TAKE, keys, args.toArray());
+        } catch (Exception e) {
+            // Redis 장애 시에는 제한 없이 통과시킨다
+            log.warn("요청 한도 확인 실패, 통과 처리 - error: {}", e.getMessage());
+            return 0;
+        }
+        if (waits == null) return 0;
+
+        long maxWait = 0;
+        for (int i = 0; i < waits.size() && i < buckets.size(); i++) {
+            long wait = ((Number) waits.get(i)).longValue();
+            if (wait > 0) {
+                // 막힌 버킷만 기억해 두고, 다시 채워질 때까지는 Redis 없이 거절
+                rememberBlocked(buckets.get(i).key(), now + wait, now);
+                maxWait = Math.max(maxWait, wait);
+            }
+        }
+        return maxWait;
+    }
+
+    private void rememberBlocked(String key, long until, long now) {
+        if (blockedUntil.size() >= LOCAL_MAX_SIZE) {
+            blockedUntil.values().removeIf(t -> t <= now);
+            if (blockedUntil.size() >= LOCAL_MAX_SIZE) {
+                blockedUntil.clear();
+            }
+        }
+        blockedUntil.merge(key, until, Math::max);
+    }
+}
@@ -13,8 +13,11 @@ import org.springframework.http.HttpStatus;
 public enum S3ErrorCode implements BaseErrorCode {
 
     NOT_FOUND(HttpStatus.NOT_FOUND, "FILE404", "해당 파일을 찾을 수 없습니다."),
+    EMPTY_FILE(HttpStatus.BAD_REQUEST, "FILE400", "빈 파일은 업로드할 수 없습니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "FILE413", "파일 크기가 너무 큽니다."),
     UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "UPLOAD0500", "업로드 처리 중 오류가 발생했습니다."),
-    DOWNLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "DOWNLOAD500", "다운로드 처리 중 오류가 발생했습니다.");
+    DOWNLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "DOWNLOAD500", "다운로드 처리 중 오류가 발생했습니다."),
+    DOWNLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "DOWNLOAD503", "다운로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
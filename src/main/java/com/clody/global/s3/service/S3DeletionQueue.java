@@ -0,0 +1,205 @@
+package com.clody.global.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * S3 객체 삭제 대기열.
+ * 삭제할 key 는 다음 시도 시각을 점수로 하는 Redis zset 에 넣어 두고 (요청 경로에서는 Redis 한 번),
+ * 주기적으로 시각이 된 key 를 최대 1000개씩 처리 중 zset 으로 옮겨(임대) DeleteObjects 한 번으로 지운다.
+ * 처리 중 목록에서는 삭제 결과를 받은 뒤에만 빼므로, 도중에 인스턴스가 죽어도 임대 시간이 지나면 대기열로 돌아온다.
+ * 실패한 key 는 지수 백오프로 다음 시도 시각을 미루고, 한도를 넘으면 로그만 남기고 버린다.
+ * S3 는 없는 key 의 삭제도 성공으로 처리하므로 존재 확인은 하지 않는다 (중복 삭제는 무해).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    private static final String QUEUE_KEY = "s3_delete_queue:scheduled";
+    private static final String PROCESSING_KEY = "s3_delete_queue:processing";
+    private static final String ATTEMPTS_KEY = "s3_delete_queue:attempts";
+    // DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    // 이전 버전이 쓰던 set 대기열. 남아 있는 key 는 시작할 때 zset 으로 옮긴다
+    private static final String LEGACY_QUEUE_KEY = "s3_delete_queue";
+
+    private static final RedisScript<Long> MIGRATE_LEGACY = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok ~= 'set' then return 0 end
+            local keys = redis.call('SMEMBERS', KEYS[1])
+            for _, key in ipairs(keys) do
+              redis.call('ZADD', KEYS[2], 'NX', 0, key)
+            end
+            redis.call('DEL', KEYS[1])
+            return #keys
+            """, Long.class);
+
+    // 다음 시도 시각은 모두 Redis 시계 기준이므로 넣을 때도 TIME 을 점수로 쓴다 (인스턴스 시계가 틀어져도 순서가 맞다)
+    private static final RedisScript<Long> ENQUEUE = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            return redis.call('ZADD', KEYS[1], now, ARGV[1])
+            """, Long.class);
+
+    // 임대가 끝난 처리 중 key 를 되돌린 뒤, 시각이 된 key 를 최대 ARGV[1] 개 꺼내 ARGV[2] ms 동안 임대한다
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local limit = tonumber(ARGV[1])
+            local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, limit)
+            for _, key in ipairs(stale) do
+              redis.call('ZADD', KEYS[1], 'NX', now, key)
+              redis.call('ZREM', KEYS[2], key)
+            end
+            local keys = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, limit)
+            for _, key in ipairs(keys) do
+              redis.call('ZREM', KEYS[1], key)
+              redis.call('ZADD', KEYS[2], now + tonumber(ARGV[2]), key)
+            end
+            return keys
+            """, List.class);
+
+    // ARGV: 기본 지연, 최대 지연, 최대 시도 횟수, 성공 건수, 성공 key..., 실패 key...
+    // 실패 key 는 base * 2^(시도-1) ms 뒤로 미루고, 한도에 닿은 key 목록을 돌려준다
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> COMPLETE = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local base = tonumber(ARGV[1])
+            local maxDelay = tonumber(ARGV[2])
+            local maxAttempts = tonumber(ARGV[3])
+            local lastSucceeded = 4 + tonumber(ARGV[4])
+            local dropped = {}
+            for i = 5, #ARGV do
+              local key = ARGV[i]
+              redis.call('ZREM', KEYS[2], key)
+              if i <= lastSucceeded then
+                redis.call('HDEL', KEYS[3], key)
+              else
+                local attempts = redis.call('HINCRBY', KEYS[3], key, 1)
+                if attempts >= maxAttempts then
+                  redis.call('HDEL', KEYS[3], key)
+                  table.insert(dropped, key)
+                else
+                  local delay = math.min(maxDelay, base * math.pow(2, attempts - 1))
+                  redis.call('ZADD', KEYS[1], math.floor(now + delay), key)
+                end
+              end
+            end
+            return dropped
+            """, List.class);
+
+    private final AmazonS3 amazonS3Client;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${cloud.aws.s3.delete.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도까지의 지연. 이후 두 배씩 늘린다 (기본값 기준 1, 2, 4, 8분 뒤 재시도)
+    @Value("${cloud.aws.s3.delete.backoff-ms:60000}")
+    private long backoffMs;
+
+    @Value("${cloud.aws.s3.delete.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    // 꺼낸 key 를 이 시간 안에 처리하지 못하면 (인스턴스 중단 등) 다른 주기에서 다시 꺼낸다
+    @Value("${cloud.aws.s3.delete.lease-ms:300000}")
+    private long leaseMs;
+
+    @PostConstruct
+    void migrateLegacyQueue() {
+        try {
+            Long migrated = redisTemplate.execute(MIGRATE_LEGACY, List.of(LEGACY_QUEUE_KEY, QUEUE_KEY));
+            if (migrated != null && migrated > 0) {
+                log.info("S3 삭제 대기열 이전 - {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("S3 삭제 대기열 이전 실패: {}", e.getMessage());
+        }
+    }
+
+    public void enqueue(String key) {
+        redisTemplate.execute(ENQUEUE, List.of(QUEUE_KEY), key);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.delete.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        List<?> claimed;
+        do {
+            try {
+                claimed = redisTemplate.execute(CLAIM, List.of(QUEUE_KEY, PROCESSING_KEY),
+                        String.valueOf(MAX_KEYS_PER_REQUEST), String.valueOf(leaseMs));
+            } catch (Exception e) {
+                log.error("S3 삭제 대기열 조회 실패: {}", e.getMessage(), e);
+                return;
+            }
+            if (claimed == null || claimed.isEmpty()) return;
+
+            List<String> keys = claimed.stream().map(Object::toString).toList();
+            deleteBatch(keys);
+        } while (claimed.size() == MAX_KEYS_PER_REQUEST);
+    }
+
+    private void deleteBatch(List<String> keys) {
+        Set<String> failed = new HashSet<>();
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(keys.toArray(String[]::new))
+                    .withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            // 일부 key 만 실패. S3 호환 서버가 NoSuchKey 를 오류로 돌려주는 경우도 성공으로 본다
+            e.getErrors().stream()
+                    .filter(error -> !"NoSuchKey".equals(error.getCode()))
+                    .forEach(error -> failed.add(error.getKey()));
+        } catch (Exception e) {
+            log.warn("S3 일괄 삭제 실패 - 건수: {}, error: {}", keys.size(), e.getMessage());
+            failed.addAll(keys);
+        }
+
+        List<String> succeeded = keys.stream().filter(key -> !failed.contains(key)).toList();
+        List<String> retry = keys.stream().filter(failed::contains).toList();
+        List<Object> args = new ArrayList<>(keys.size() + 4);
+        args.add(String.valueOf(backoffMs));
+        args.add(String.valueOf(maxBackoffMs));
+        args.add(String.valueOf(maxAttempts));
+        args.add(String.valueOf(succeeded.size()));
+        args.addAll(succeeded);
+        args.addAll(retry);
+
+        List<?> dropped;
+        try {
+            dropped = redisTemplate.execute(COMPLETE, List.of(QUEUE_KEY, PROCESSING_KEY, ATTEMPTS_KEY), args.toArray());
+        } catch (Exception e) {
+            // 처리 중 목록에 남아 있으므로 임대가 끝나면 다시 시도된다
+            log.error("S3 삭제 결과 반영 실패 - 건수: {}, error: {}", keys.size(), e.getMessage(), e);
+            return;
+        }
+        if (dropped != null) {
+            dropped.forEach(key -> log.error("S3 객체 삭제 포기 - key: {}, attempts: {}", key, maxAttempts));
+        }
+        log.debug("S3 일괄 삭제 - 요청: {}, 재시도 예약: {}", keys.size(),
+                retry.size() - (dropped == null ? 0 : dropped.size()));
+    }
+}
@@ -0,0 +1,223 @@
+package com.clody.global.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.clody.global.s3.exception.S3ErrorCode;
+import com.clody.global.s3.exception.S3Exception;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * S3 객체를 서블릿 응답으로 그대로 흘려보내는 프록시.
+ * Range(단일 구간)와 If-None-Match 는 S3 GetObject 조건으로 넘겨 한 번의 호출로 처리하고,
+ * 본문은 크기가 고정된 버퍼 풀로 복사하므로 객체 크기와 상관없이 다운로드당 메모리는 버퍼 하나다.
+ * 버퍼는 풀 크기까지만 만들고, 모두 쓰이는 중이면 잠시 기다렸다가 그래도 없으면 503 으로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectStreamer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // bytes=start-end 또는 bytes=start- 만 지원 (여러 구간, 접미 구간은 무시하고 전체를 보낸다)
+    private static final Pattern RANGE = Pattern.compile("^bytes=(\\d+)-(\\d*)$");
+    // If-None-Match 의 각 항목: "etag" 또는 W/"etag" (형식이 틀린 항목은 무시한다)
+    private static final Pattern ENTITY_TAG = Pattern.compile("^(?:W/)?\"([^\"]*)\"$");
+    private static final String ANY_ENTITY_TAG = "*";
+
+    private final AmazonS3 amazonS3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${cloud.aws.s3.download.cache-max-age-seconds:86400}")
+    private long cacheMaxAgeSeconds;
+
+    // 동시에 본문을 보낼 수 있는 다운로드 수 (= 만들 수 있는 버퍼 수)
+    @Value("${cloud.aws.s3.download.buffer-pool-size:64}")
+    private int bufferPoolSize;
+
+    @Value("${cloud.aws.s3.download.buffer-wait-ms:2000}")
+    private long bufferWaitMs;
+
+    private ArrayBlockingQueue<byte[]> buffers;
+    private final AtomicInteger created = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        buffers = new ArrayBlockingQueue<>(bufferPoolSize);
+    }
+
+    public void stream(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        GetObjectRequest getRequest = new GetObjectRequest(bucket, key);
+
+        List<String> entityTags = parseIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH));
+        if (!entityTags.isEmpty()) {
+            getRequest.setNonmatchingETagConstraints(entityTags);
+        }
+
+        boolean ranged = false;
+        Matcher range = RANGE.matcher(String.valueOf(request.getHeader(HttpHeaders.RANGE)).trim());
+        if (range.matches()) {
+            long start = Long.parseLong(range.group(1));
+            if (range.group(2).isEmpty()) {
+                getRequest.setRange(start);
+            } else {
+                long end = Long.parseLong(range.group(2));
+                if (end < start) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                getRequest.setRange(start, end);
+            }
+            ranged = true;
+        }
+
+        // S3 연결을 연 채로 버퍼를 기다리지 않도록 먼저 빌린다
+        byte[] buffer = borrowBuffer();
+        try {
+            S3Object object;
+            try {
+                object = amazonS3Client.getObject(getRequest);
+            } catch (AmazonS3Exception e) {
+                if (e.getStatusCode() == HttpServletResponse.SC_NOT_FOUND) {
+                    throw new S3Exception(S3ErrorCode.NOT_FOUND);
+                }
+                if (e.getStatusCode() == HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                log.error("S3 객체 조회 실패 - key: {}, status: {}, error: {}", key, e.getStatusCode(), e.getMessage());
+                throw new S3Exception(S3ErrorCode.DOWNLOAD_FAILED);
+            }
+
+            // If-None-Match 가 일치하면 SDK 는 본문 없이 null 을 돌려준다
+            if (object == null) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                String currentTag = currentEntityTag(key, entityTags);
+                if (currentTag != null) {
+                    response.setHeader(HttpHeaders.ETAG, "\"" + currentTag + "\"");
+                }
+                setCacheHeaders(response);
+                return;
+            }
+
+            try (S3ObjectInputStream in = object.getObjectContent()) {
+                ObjectMetadata metadata = object.getObjectMetadata();
+                Long[] contentRange = metadata.getContentRange();
+                if (ranged && contentRange != null && contentRange.length == 2) {
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(
+                            contentRange[0], contentRange[1], metadata.getInstanceLength()));
+                } else {
+                    response.setStatus(HttpServletResponse.SC_OK);
+                }
+                response.setContentLengthLong(metadata.getContentLength());
+                if (metadata.getContentType() != null) {
+                    response.setContentType(metadata.getContentType());
+                }
+                if (metadata.getETag() != null) {
+                    response.setHeader(HttpHeaders.ETAG, "\"" + metadata.getETag() + "\"");
+                }
+                if (metadata.getLastModified() != null) {
+                    response.setDateHeader(HttpHeaders.LAST_MODIFIED, metadata.getLastModified().getTime());
+                }
+                response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+                setCacheHeaders(response);
+
+                copy(in, response.getOutputStream(), buffer);
+            }
+        } finally {
+            buffers.offer(buffer);
+        }
+    }
+
+    // If-None-Match 는 약한 비교이므로 W/ 를 떼고 S3 에는 강한 형식("etag")으로 넘긴다
+    private List<String> parseIfNoneMatch(String header) {
+        if (header == null || header.isBlank()) return List.of();
+        if (header.trim().equals(ANY_ENTITY_TAG)) return List.of(ANY_ENTITY_TAG);
+
+        List<String> tags = new ArrayList<>();
+        for (String candidate : header.split("\\s*,\\s*")) {
+            Matcher tag = ENTITY_TAG.matcher(candidate.trim());
+            if (tag.matches()) {
+                tags.add("\"" + tag.group(1) + "\"");
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 304 응답에 실을 현재 객체의 ETag (따옴표 제외). 클라이언트가 보낸 태그가 하나뿐이면 그 값이 현재 ETag 와 일치한 것이고,
+     * 여러 개나 * 였으면 어느 것이 일치했는지 모르므로 HEAD 로 확인한다. 확인하지 못하면 null (헤더 생략).
+     */
+    private String currentEntityTag(String key, List<String> entityTags) {
+        if (entityTags.size() == 1 && !entityTags.get(0).equals(ANY_ENTITY_TAG)) {
+            String tag = entityTags.get(0);
+            return tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, key).getETag();
+        } catch (Exception e) {
+            log.debug("S3 객체 ETag 조회 실패, ETag 생략 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] borrowBuffer() {
+        byte[] buffer = buffers.poll();
+        if (buffer != null) return buffer;
+        // 풀 크기까지는 새로 만든다
+        if (created.getAndUpdate(n -> n < bufferPoolSize ? n + 1 : n) < bufferPoolSize) {
+            return new byte[BUFFER_SIZE];
+        }
+        try {
+            buffer = buffers.poll(bufferWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer == null) {
+            log.warn("S3 다운로드 버퍼 부족 - 동시 다운로드 한도: {}", bufferPoolSize);
+            throw new S3Exception(S3ErrorCode.DOWNLOAD_BUSY);
+        }
+        return buffer;
+    }
+
+    private void copy(S3ObjectInputStream in, OutputStream out, byte[] buffer) throws IOException {
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트가 끊었으면 남은 본문을 읽어 버리지 않고 S3 연결을 끊는다
+            in.abort();
+            throw e;
+        }
+    }
+
+    private void setCacheHeaders(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + cacheMaxAgeSeconds);
+    }
+}
@@ -4,7 +4,6 @@ import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.*;
-import com.amazonaws.util.IOUtils;
 import com.clody.global.s3.dto.S3UrlResponseDTO;
 import com.clody.global.s3.exception.S3ErrorCode;
 import com.clody.global.s3.exception.S3Exception;
@@ -12,25 +11,55 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class S3Service {
+    private static final long URL_EXPIRATION_MILLIS = 1000 * 60 * 15;
+    private static final long GET_URL_BUCKET_MILLIS = 1000 * 60 * 5;
+    private static final int GET_URL_CACHE_MAX_SIZE = 10_000;
+    // S3 multipart 의 마지막 파트를 제외한 최소 파트 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     private final AmazonS3 amazonS3Client;
+    private final ExecutorService virtualThreadExecutor;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final Map<String, CachedUrl> getUrlCache = new ConcurrentHashMap<>();
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.multipart.part-size:5242880}")
+    private int partSize;
+
+    // 동시에 올리는(메모리에 들고 있는) 파트 수
+    @Value("${cloud.aws.s3.multipart.max-in-flight-parts:4}")
+    private int maxInFlightParts;
+
     //파일 업로드(presigned url 사용 x)
-    @Transactional
     public String uploadFile(MultipartFile file, String key) throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentLength(file.getSize());
@@ -43,6 +72,132 @@ public class S3Service {
     }
 
 
+    // 서버에서 만든 작은 파일(리사이즈본 등) 업로드
+    public String uploadBytes(byte[] bytes, String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        amazonS3Client.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), metadata));
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 요청 본문 같은 스트림을 임시 파일 없이 바로 S3 로 올린다.
+     * 파트 크기만큼 읽을 때마다 multipart 파트로 병렬 업로드하고 (메모리에는 최대 maxInFlightParts 개 파트만 보관),
+     * 본문이 한 파트보다 작으면 multipart 없이 putObject 한 번으로 끝낸다.
+     * maxBytes 를 넘거나 파트 업로드가 실패하면 multipart 업로드를 abort 하고 예외를 던진다.
+     *
+     * @param progress 지금까지 S3 에 올라간 바이트 수를 받는 콜백
+     */
+    public String uploadStream(InputStream in, String key, String contentType, long maxBytes,
+                               LongConsumer progress) throws IOException {
+        int size = Math.max(partSize, MIN_PART_SIZE);
+        byte[] first = readPart(in, size, maxBytes, 0);
+        if (first.length == 0) {
+            throw new S3Exception(S3ErrorCode.EMPTY_FILE);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        if (first.length < size) {
+            metadata.setContentLength(first.length);
+            amazonS3Client.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(first), metadata));
+            progress.accept(first.length);
+            return amazonS3Client.getUrl(bucket, key).toString();
+        }
+
+        String uploadId = amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        Semaphore inFlight = new Semaphore(maxInFlightParts);
+        AtomicLong uploaded = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<PartETag>> parts = new ArrayList<>();
+
+        try {
+            byte[] part = first;
+            long total = 0;
+            int partNumber = 1;
+            while (part.length > 0) {
+                total += part.length;
+                inFlight.acquire();
+                if (failure.get() != null) {
+                    inFlight.release();
+                    break;
+                }
+                parts.add(virtualThreadExecutor.submit(uploadPart(key, uploadId, partNumber++, part,
+                        inFlight, uploaded, failure, progress)));
+                part = readPart(in, size, maxBytes, total);
+            }
+
+            List<PartETag> etags = new ArrayList<>(parts.size());
+            for (Future<PartETag> future : parts) {
+                etags.add(future.get());
+            }
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+            log.info("multipart 업로드 완료 - key: {}, parts: {}, bytes: {}", key, etags.size(), total);
+            return amazonS3Client.getUrl(bucket, key).toString();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipart(key, uploadId, parts);
+            throw new S3Exception(S3ErrorCode.UPLOAD_FAILED);
+        } catch (ExecutionException e) {
+            abortMultipart(key, uploadId, parts);
+            log.error("multipart 파트 업로드 실패 - key: {}, error: {}", key, e.getCause().getMessage(), e.getCause());
+            throw new S3Exception(S3ErrorCode.UPLOAD_FAILED);
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private Callable<PartETag> uploadPart(String key, String uploadId, int partNumber, byte[] bytes,
+                                          Semaphore inFlight, AtomicLong uploaded,
+                                          AtomicReference<Throwable> failure, LongConsumer progress) {
+        return () -> {
+            try {
+                PartETag etag = amazonS3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(bytes))
+                        .withPartSize(bytes.length)).getPartETag();
+                progress.accept(uploaded.addAndGet(bytes.length));
+                return etag;
+            } catch (RuntimeException e) {
+                // 읽기 루프가 다음 파트를 더 읽지 않고 멈추도록 알린다
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                inFlight.release();
+            }
+        };
+    }
+
+    // 최대 size 바이트를 읽는다. 지금까지 읽은 양(readSoFar)과 합쳐 maxBytes 를 넘으면 거절
+    private static byte[] readPart(InputStream in, int size, long maxBytes, long readSoFar) throws IOException {
+        long remaining = maxBytes - readSoFar;
+        int limit = (int) Math.min(size, remaining + 1);
+        byte[] bytes = in.readNBytes(limit);
+        if (bytes.length > remaining) {
+            throw new S3Exception(S3ErrorCode.FILE_TOO_LARGE);
+        }
+        return bytes;
+    }
+
+    private void abortMultipart(String key, String uploadId, List<Future<PartETag>> parts) {
+        parts.forEach(future -> future.cancel(true));
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            log.warn("multipart 업로드 중단 - key: {}, uploadId: {}", key, uploadId);
+        } catch (Exception e) {
+            // 남은 파트는 버킷의 미완료 multipart 정리 수명주기 규칙에 맡긴다
+            log.error("multipart 업로드 abort 실패 - key: {}, uploadId: {}, error: {}", key, uploadId, e.getMessage());
+        }
+    }
+
     // 파일 업로드(put)용 URL 생성하는 메소드
     public S3UrlResponseDTO getPutGeneratePresignedUrlRequest(String fileName, String domain) {
         String key = domain + "/" + UUID.randomUUID() + "/" + fileName;
@@ -65,54 +220,78 @@ public class S3Service {
     }
 
     // 파일 조회(get)용 URL 생성 메소드
+    // 같은 시간 구간(bucket) 안에서는 캐시된 URL 을 그대로 돌려줘서 서명 비용을 줄이고 클라이언트 이미지 캐시가 유지되도록 한다
     public String getGetGeneratePresignedUrlRequest(String key) {
         //key null 이면 url 발급 x
         if (key == null || key.trim().isEmpty()) {
             return null;
         }
-        Date expiration = getExpiration();
+        long timeBucket = System.currentTimeMillis() / GET_URL_BUCKET_MILLIS;
+        CachedUrl cached = getUrlCache.get(key);
+        if (cached != null && cached.timeBucket() == timeBucket) {
+            return cached.url();
+        }
+
+        // 만료 시각을 구간 경계에 맞춰서, 구간 내 어느 시점에 발급해도 최소 15분은 유효하도록 한다
+        Date expiration = new Date((timeBucket + 1) * GET_URL_BUCKET_MILLIS + URL_EXPIRATION_MILLIS);
         GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key)
                 .withMethod(HttpMethod.GET)
                 .withExpiration(expiration);
 
-        URL url = amazonS3Client.generatePresignedUrl(request);
+        String url = amazonS3Client.generatePresignedUrl(request).toString();
+
+        if (getUrlCache.size() >= GET_URL_CACHE_MAX_SIZE) {
+            evictStaleUrls(timeBucket);
+        }
+        getUrlCache.put(key, new CachedUrl(url, timeBucket));
+        return url;
+    }
 
-        return url.toString();
+    // 피드 한 페이지 분량의 key 를 한 번에 조회용 URL 로 변환 (key -> url)
+    public Map<String, String> getGetGeneratePresignedUrls(Collection<String> keys) {
+        Map<String, String> urls = new HashMap<>();
+        for (String key : keys) {
+            if (key != null && !key.trim().isEmpty() && !urls.containsKey(key)) {
+                urls.put(key, getGetGeneratePresignedUrlRequest(key));
+            }
+        }
+        return urls;
+    }
+
+    private void evictStaleUrls(long currentBucket) {
+        getUrlCache.values().removeIf(cached -> cached.timeBucket() < currentBucket);
+        if (getUrlCache.size() >= GET_URL_CACHE_MAX_SIZE) {
+            getUrlCache.clear();
+        }
+    }
+
+    private record CachedUrl(String url, long timeBucket) {
     }
 
     // url 유효기간 생성
     private static Date getExpiration() {
         Date expiration = new Date();
         long expTimeMillis = expiration.getTime();
-        expTimeMillis += 1000 * 60 * 15; // 15분
+        expTimeMillis += URL_EXPIRATION_MILLIS; // 15분
         expiration.setTime(expTimeMillis);
         return expiration;
     }
 
-    //파일 삭제
-    @Transactional
+    //파일 삭제: 바로 지우지 않고 S3DeletionQueue 에 넣어 모아서 일괄 삭제한다 (없는 key 도 성공으로 처리)
     public void deleteFile(String key) {
         if (key != null && !key.equals("none")) {
-            if (amazonS3Client.doesObjectExist(bucket, key)) {
-                amazonS3Client.deleteObject(bucket, key);
-                log.info("Deleted file with key: " + key);
-            } else {
-                log.error("File not found in S3: " + key);
-                throw new S3Exception(S3ErrorCode.NOT_FOUND);
-            }
-
+            s3DeletionQueue.enqueue(key);
+            log.info("Queued file for deletion with key: " + key);
         } else {
             log.info("No picture to delete for key: " + key);
         }
-
     }
-    //파일 다운로드
-    public byte[] downloadFileFromS3(String key) {
+
+    //파일 다운로드: 전체를 메모리에 올리지 않도록 스트림으로 돌려준다 (호출자가 닫아야 함)
+    // HTTP 응답으로 내보낼 때는 Range/ETag 를 처리하는 S3ObjectStreamer 를 쓴다
+    public InputStream openStream(String key) {
         try {
-            S3Object s3Object = amazonS3Client.getObject(new GetObjectRequest(bucket, key));
-            try (S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
-                return IOUtils.toByteArray(inputStream);
-            }
+            return amazonS3Client.getObject(new GetObjectRequest(bucket, key)).getObjectContent();
         } catch (Exception e) {
             throw new S3Exception(S3ErrorCode.DOWNLOAD_FAILED);
         }
@@ -15,7 +15,7 @@ public class ImageValidationUtil {
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
         "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
     );
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    public static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
     public static void validateImageFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -54,6 +54,36 @@ public class ImageValidationUtil {
                 originalFilename, file.getSize(), contentType);
     }
 
+    /**
+     * 스트리밍 업로드(요청 본문 = 이미지) 검증. 크기는 Content-Length 가 있을 때만 미리 확인하고,
+     * 없으면 업로드하면서 MAX_FILE_SIZE 로 끊는다.
+     *
+     * @return Content-Type 에 해당하는 확장자
+     */
+    public static String validateImageStream(String contentType, long contentLength) {
+        if (contentLength == 0) {
+            log.warn("빈 파일이 업로드 되었습니다");
+            throw new MemberException(MemberErrorCode.INVALID_IMAGE_FILE);
+        }
+
+        if (contentLength > MAX_FILE_SIZE) {
+            log.warn("파일 크기가 너무 큽니다. 업로드된 크기: {}bytes, 최대 허용: {}bytes",
+                    contentLength, MAX_FILE_SIZE);
+            throw new MemberException(MemberErrorCode.IMAGE_FILE_TOO_LARGE);
+        }
+
+        String normalized = (contentType == null) ? null : contentType.split(";")[0].trim().toLowerCase();
+        if (normalized == null || !ALLOWED_CONTENT_TYPES.contains(normalized)) {
+            log.warn("허용되지 않는 파일 타입입니다. Content-Type: {}", contentType);
+            throw new MemberException(MemberErrorCode.INVALID_IMAGE_FORMAT);
+        }
+
+        return switch (normalized) {
+            case "image/jpeg", "image/jpg" -> "jpg";
+            default -> normalized.substring("image/".length());
+        };
+    }
+
     private static String getFileExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         if (lastDotIndex == -1) {
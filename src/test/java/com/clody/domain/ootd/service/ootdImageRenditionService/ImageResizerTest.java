@@ -0,0 +1,175 @@
+package com.clody.domain.ootd.service.ootdImageRenditionService;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    void EXIF_Orientation_6_은_시계방향으로_돌려_세로_이미지로_디코딩한다() throws IOException {
+        // 왼쪽 절반 빨강, 오른쪽 절반 파랑인 가로 이미지
+        byte[] jpeg = withOrientation(ImageResizer.encodeJpeg(halves(40, 20), 0.95f), 6, ByteOrder.BIG_ENDIAN);
+
+        BufferedImage decoded = ImageResizer.decode(new ByteArrayInputStream(jpeg), 1080, 1920);
+
+        assertThat(decoded.getWidth()).isEqualTo(20);
+        assertThat(decoded.getHeight()).isEqualTo(40);
+        // 시계 방향 90도: 왼쪽이 위로 간다
+        assertThat(isRed(decoded.getRGB(10, 5))).isTrue();
+        assertThat(isBlue(decoded.getRGB(10, 35))).isTrue();
+    }
+
+    @Test
+    void 리틀엔디언_EXIF_의_Orientation_8_과_3_도_적용한다() throws IOException {
+        byte[] encoded = ImageResizer.encodeJpeg(halves(40, 20), 0.95f);
+
+        BufferedImage rotatedLeft = ImageResizer.decode(
+                new ByteArrayInputStream(withOrientation(encoded, 8, ByteOrder.LITTLE_ENDIAN)), 1080, 1920);
+        BufferedImage upsideDown = ImageResizer.decode(
+                new ByteArrayInputStream(withOrientation(encoded, 3, ByteOrder.LITTLE_ENDIAN)), 1080, 1920);
+
+        // 반시계 90도: 왼쪽이 아래로 간다
+        assertThat(rotatedLeft.getWidth()).isEqualTo(20);
+        assertThat(isRed(rotatedLeft.getRGB(10, 35))).isTrue();
+        assertThat(isBlue(rotatedLeft.getRGB(10, 5))).isTrue();
+        // 180도: 왼쪽이 오른쪽으로 간다
+        assertThat(upsideDown.getWidth()).isEqualTo(40);
+        assertThat(isRed(upsideDown.getRGB(35, 10))).isTrue();
+        assertThat(isBlue(upsideDown.getRGB(5, 10))).isTrue();
+    }
+
+    @Test
+    void 세로로_긴_이미지는_높이_기준으로도_서브샘플링한다() throws IOException {
+        byte[] jpeg = ImageResizer.encodeJpeg(new BufferedImage(400, 4000, BufferedImage.TYPE_INT_RGB), 0.8f);
+
+        BufferedImage decoded = ImageResizer.decode(new ByteArrayInputStream(jpeg), 1080, 1000);
+
+        assertThat(decoded.getWidth()).isEqualTo(100);
+        assertThat(decoded.getHeight()).isEqualTo(1000);
+    }
+
+    @Test
+    void 회전된_이미지는_보이는_방향의_크기로_서브샘플링_배율을_정한다() throws IOException {
+        // 저장은 4000x400 이지만 보이는 방향은 400x4000
+        byte[] jpeg = withOrientation(
+                ImageResizer.encodeJpeg(new BufferedImage(4000, 400, BufferedImage.TYPE_INT_RGB), 0.8f),
+                6, ByteOrder.BIG_ENDIAN);
+
+        BufferedImage decoded = ImageResizer.decode(new ByteArrayInputStream(jpeg), 1080, 1000);
+
+        assertThat(decoded.getWidth()).isEqualTo(100);
+        assertThat(decoded.getHeight()).isEqualTo(1000);
+    }
+
+    @Test
+    void 읽을_수_없는_형식이면_null_을_돌려준다() throws IOException {
+        assertThat(ImageResizer.decode(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}), 1080, 1920)).isNull();
+    }
+
+    @Test
+    void 비율을_유지해_폭과_높이_제한_안으로_줄인다() {
+        BufferedImage wide = ImageResizer.resize(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), 400, 1000);
+        BufferedImage tall = ImageResizer.resize(new BufferedImage(500, 1000, BufferedImage.TYPE_INT_RGB), 400, 400);
+        BufferedImage small = ImageResizer.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), 400, 400);
+
+        assertThat(wide.getWidth()).isEqualTo(400);
+        assertThat(wide.getHeight()).isEqualTo(200);
+        assertThat(tall.getWidth()).isEqualTo(200);
+        assertThat(tall.getHeight()).isEqualTo(400);
+        assertThat(small.getWidth()).isEqualTo(100);
+        assertThat(small.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void 투명_영역은_흰_배경으로_채운다() {
+        BufferedImage transparent = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.resize(transparent, 50, 50);
+
+        assertThat(resized.getRGB(25, 25) & 0xFFFFFF).isEqualTo(0xFFFFFF);
+    }
+
+    @Test
+    void 인코딩한_JPEG_는_다시_읽을_수_있고_EXIF_가_없다() throws IOException {
+        byte[] jpeg = ImageResizer.encodeJpeg(halves(64, 32), 0.82f);
+
+        BufferedImage read = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+        assertThat(jpeg[0]).isEqualTo((byte) 0xFF);
+        assertThat(jpeg[1]).isEqualTo((byte) 0xD8);
+        assertThat(read.getWidth()).isEqualTo(64);
+        assertThat(read.getHeight()).isEqualTo(32);
+        try (ImageInputStream in = new MemoryCacheImageInputStream(new ByteArrayInputStream(jpeg))) {
+            assertThat(ImageResizer.readOrientation(in)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void JPEG_가_아니면_Orientation_은_1_이고_스트림_위치는_그대로다() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(halves(10, 10), "png", png);
+
+        try (ImageInputStream in = new MemoryCacheImageInputStream(new ByteArrayInputStream(png.toByteArray()))) {
+            assertThat(ImageResizer.readOrientation(in)).isEqualTo(1);
+            assertThat(in.getStreamPosition()).isZero();
+        }
+    }
+
+    private static BufferedImage halves(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(Color.BLUE);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+        return image;
+    }
+
+    // JFIF APP0 뒤에 Orientation 태그 하나짜리 APP1(Exif) 세그먼트를 끼워 넣는다
+    private static byte[] withOrientation(byte[] jpeg, int orientation, ByteOrder order) {
+        ByteBuffer tiff = ByteBuffer.allocate(26).order(order);
+        tiff.put(order == ByteOrder.BIG_ENDIAN ? new byte[]{'M', 'M'} : new byte[]{'I', 'I'});
+        tiff.putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        ByteBuffer app1 = ByteBuffer.allocate(2 + 2 + 6 + 26);
+        app1.putShort((short) 0xFFE1).putShort((short) (2 + 6 + 26));
+        app1.put(new byte[]{'E', 'x', 'i', 'f', 0, 0}).put(tiff.array());
+
+        int insertAt = 2;
+        if ((jpeg[2] & 0xFF) == 0xFF && (jpeg[3] & 0xFF) == 0xE0) {
+            insertAt += 2 + ((jpeg[4] & 0xFF) << 8 | (jpeg[5] & 0xFF));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + app1.capacity());
+        out.write(jpeg, 0, insertAt);
+        out.write(app1.array(), 0, app1.capacity());
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+
+    private static boolean isRed(int rgb) {
+        Color c = new Color(rgb);
+        return c.getRed() > 200 && c.getBlue() < 60;
+    }
+
+    private static boolean isBlue(int rgb) {
+        Color c = new Color(rgb);
+        return c.getBlue() > 200 && c.getRed() < 60;
+    }
+}
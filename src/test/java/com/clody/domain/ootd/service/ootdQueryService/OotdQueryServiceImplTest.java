@@ -0,0 +1,235 @@
+package com.clody.domain.ootd.service.ootdQueryService;
+
+import com.clody.domain.hashtag.entity.HashtagCategory;
+import com.clody.domain.hashtag.entity.HashtagMatchMode;
+import com.clody.domain.hashtag.service.query.HashtagQueryService;
+import com.clody.domain.member.repository.MemberRepository;
+import com.clody.domain.ootd.dto.OotdResponseDTO;
+import com.clody.domain.ootd.exception.OotdErrorCode;
+import com.clody.domain.ootd.exception.OotdException;
+import com.clody.domain.ootd.repository.OotdImageRepository;
+import com.clody.domain.ootd.repository.OotdRepository;
+import com.clody.domain.ootd.service.ootdCounterService.OotdCounterService;
+import com.clody.domain.ootd.service.ootdLikeQueryService.OotdLikeQueryService;
+import com.clody.domain.ootd.service.ootdTimelineService.OotdTimelineService;
+import com.clody.domain.ootdHashtag.repository.OotdHashtagRepository;
+import com.clody.global.s3.service.S3Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OotdQueryServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    @Mock OotdRepository ootdRepository;
+    @Mock OotdImageRepository ootdImageRepository;
+    @Mock OotdHashtagRepository ootdHashtagRepository;
+    @Mock HashtagQueryService hashtagQueryService;
+    @Mock MemberRepository memberRepository;
+    @Mock S3Service s3Service;
+    @Mock OotdCounterService ootdCounterService;
+    @Mock OotdLikeQueryService ootdLikeQueryService;
+    @Mock OotdTimelineService ootdTimelineService;
+    @Mock ExecutorService virtualThreadExecutor;
+
+    @InjectMocks OotdQueryServiceImpl ootdQueryService;
+
+    @Test
+    void 첫_페이지는_size_보다_하나_더_읽어_다음_커서를_정한다() {
+        given(ootdRepository.findFirstPageAll(PageRequest.of(0, 3))).willReturn(rows(30L, 20L, 10L));
+        given(s3Service.getGetGeneratePresignedUrls(anyCollection()))
+                .willReturn(Map.of("key-30", "url-30", "key-20", "url-20"));
+        given(ootdLikeQueryService.likedOotdIds(eq(1L), anyCollection())).willReturn(Set.of(20L));
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, 1L);
+
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(20L);
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getId).containsExactly(30L, 20L);
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getImage)
+                .containsExactly("url-30", "url-20");
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getLiked).containsExactly(false, true);
+    }
+
+    @Test
+    void 해시태그_배열은_한글_이름으로_변환된다() {
+        given(ootdRepository.findFirstPageAll(PageRequest.of(0, 3))).willReturn(rows(30L));
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, null);
+
+        OotdResponseDTO.getOotdDTO item = result.getItems().get(0);
+        assertThat(item.getNickname()).isEqualTo("member-30");
+        assertThat(item.getHashtags()).containsExactly("코트", "니트");
+        assertThat(item.getCreatedAt()).isEqualTo(CREATED_AT);
+    }
+
+    @Test
+    void 마지막_페이지는_다음_커서가_없다() {
+        given(ootdRepository.findNextPageAll(eq(30L), any())).willReturn(rows(20L, 10L));
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(30L, 2, null, HashtagMatchMode.ANY, null);
+
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getId).containsExactly(20L, 10L);
+        verify(ootdRepository).findNextPageAll(30L, PageRequest.of(0, 3));
+        verify(ootdRepository, never()).findFirstPageAll(any());
+    }
+
+    @Test
+    void 빈_페이지는_S3_와_좋아요_조회를_하지_않는다() {
+        given(ootdRepository.findFirstPageAll(any())).willReturn(List.of());
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, 1L);
+
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        verify(s3Service, never()).getGetGeneratePresignedUrls(anyCollection());
+        verify(ootdLikeQueryService, never()).likedOotdIds(any(), anyCollection());
+    }
+
+    @Test
+    void 타임라인의_삭제된_id_가_있어도_커서는_타임라인_기준으로_진행한다() {
+        given(ootdTimelineService.isReady()).willReturn(true);
+        given(ootdTimelineService.readIds(null, 3, List.of())).willReturn(List.of(30L, 20L, 10L));
+        // 20 은 삭제되어 DB 에 없다
+        given(ootdRepository.findPageByIds(List.of(30L, 20L))).willReturn(rows(30L));
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, null);
+
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getId).containsExactly(30L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    void 타임라인_조회가_실패하면_DB_keyset_조회로_대체한다() {
+        given(ootdTimelineService.isReady()).willReturn(true);
+        given(ootdTimelineService.readIds(any(), anyInt(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(ootdRepository.findFirstPageAll(PageRequest.of(0, 3))).willReturn(rows(30L, 20L, 10L));
+
+        OotdResponseDTO.getCommunityOotdListDTO result =
+                ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, null);
+
+        assertThat(result.getItems()).extracting(OotdResponseDTO.getOotdDTO::getId).containsExactly(30L, 20L);
+        assertThat(result.getNextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    void DB_피드는_페이지마다_쿼리_한_번으로_해시태그까지_채운다() {
+        List<String> tags = List.of("코트", "니트");
+        given(hashtagQueryService.parseCategoryListOrThrow(tags))
+                .willReturn(List.of(HashtagCategory.COAT, HashtagCategory.KNIT));
+        int mask = HashtagCategory.maskOf(List.of(HashtagCategory.COAT, HashtagCategory.KNIT));
+        PageRequest pageable = PageRequest.of(0, 3);
+        given(ootdRepository.findFirstPageAll(pageable)).willReturn(rows(30L, 20L));
+        given(ootdRepository.findNextPageAll(20L, pageable)).willReturn(rows(10L));
+        given(ootdRepository.findFirstPageByHashtagMask(mask, true, pageable)).willReturn(rows(30L));
+        given(ootdRepository.findNextPageByHashtagMask(mask, false, 30L, pageable)).willReturn(rows(20L));
+
+        ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, 1L);
+        ootdQueryService.getCommunityOotds(20L, 2, null, HashtagMatchMode.ANY, 1L);
+        ootdQueryService.getCommunityOotds(null, 2, tags, HashtagMatchMode.ALL, 1L);
+        ootdQueryService.getCommunityOotds(30L, 2, tags, HashtagMatchMode.ANY, 1L);
+
+        verify(ootdRepository).findFirstPageAll(pageable);
+        verify(ootdRepository).findNextPageAll(20L, pageable);
+        verify(ootdRepository).findFirstPageByHashtagMask(mask, true, pageable);
+        verify(ootdRepository).findNextPageByHashtagMask(mask, false, 30L, pageable);
+        // 항목마다 해시태그/이미지/작성자를 따로 읽지 않는다 (좋아요 여부는 페이지당 IN 조회 한 번)
+        verifyNoMoreInteractions(ootdRepository);
+        verifyNoInteractions(ootdHashtagRepository, ootdImageRepository, memberRepository);
+        verify(ootdLikeQueryService, times(4)).likedOotdIds(eq(1L), anyCollection());
+    }
+
+    @Test
+    void 타임라인_피드는_id_목록을_쿼리_한_번으로_채운다() {
+        given(ootdTimelineService.isReady()).willReturn(true);
+        given(ootdTimelineService.readIds(null, 3, List.of())).willReturn(List.of(30L, 20L, 10L));
+        given(ootdRepository.findPageByIds(List.of(30L, 20L))).willReturn(rows(30L, 20L));
+
+        ootdQueryService.getCommunityOotds(null, 2, null, HashtagMatchMode.ANY, 1L);
+
+        verify(ootdRepository).findPageByIds(List.of(30L, 20L));
+        verifyNoMoreInteractions(ootdRepository);
+        verifyNoInteractions(ootdHashtagRepository, ootdImageRepository, memberRepository);
+        verify(ootdLikeQueryService).likedOotdIds(eq(1L), anyCollection());
+    }
+
+    @Test
+    void 병렬_상세_조회가_시간_초과되면_남은_조회를_인터럽트한다() throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ReflectionTestUtils.setField(ootdQueryService, "virtualThreadExecutor", executor);
+        ReflectionTestUtils.setField(ootdQueryService, "parallelDetail", true);
+        ReflectionTestUtils.setField(ootdQueryService, "detailTimeoutMillis", 100L);
+
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(ootdRepository.findHeaderById(1L)).willAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+        given(ootdCounterService.commentCount(eq(1L), any()))
+                .willAnswer(invocation -> invocation.getArgument(1, LongSupplier.class).getAsLong());
+        given(ootdImageRepository.findKeyByOotdId(1L)).willReturn(Optional.of("key-1"));
+
+        try {
+            assertThatThrownBy(() -> ootdQueryService.getOotd(1L))
+                    .isInstanceOf(OotdException.class)
+                    .extracting("baseErrorCode").isEqualTo(OotdErrorCode.DETAIL_TIMEOUT);
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // row: [id, nickname, image_key, hashtags, created_at]
+    private List<Object[]> rows(Long... ids) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long id : ids) {
+            rows.add(new Object[]{id, "member-" + id, "key-" + id, new String[]{"COAT", "KNIT"}, CREATED_AT});
+        }
+        return rows;
+    }
+}
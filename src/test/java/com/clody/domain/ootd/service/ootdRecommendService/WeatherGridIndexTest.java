@@ -0,0 +1,38 @@
+package com.clody.domain.ootd.service.ootdRecommendService;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherGridIndexTest {
+
+    @Test
+    void 같은_ootd_를_두_번_추가해도_k_개의_서로_다른_이웃을_돌려준다() {
+        WeatherGridIndex index = new WeatherGridIndex();
+        WeatherGridIndex.Point nearest = new WeatherGridIndex.Point(1L, 10L, 10, 20, 50);
+        index.add(nearest, false);
+        // 재구축 중 생성 시 추가와 DB 적재가 겹친 경우
+        index.add(nearest, false);
+        index.add(new WeatherGridIndex.Point(2L, 11L, 12, 22, 50), false);
+        index.add(new WeatherGridIndex.Point(3L, 12L, 20, 30, 80), false);
+
+        List<WeatherGridIndex.Neighbor> result = index.nearest(10, 20, 50, false, 2, null);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(result).extracting(WeatherGridIndex.Neighbor::ootdId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 요청한_회원의_ootd_와_다른_날씨_격자는_제외한다() {
+        WeatherGridIndex index = new WeatherGridIndex();
+        index.add(new WeatherGridIndex.Point(1L, 10L, 10, 20, 50), false);
+        index.add(new WeatherGridIndex.Point(2L, 11L, 10, 20, 50), true);
+        index.add(new WeatherGridIndex.Point(3L, 12L, 15, 25, 60), false);
+
+        List<WeatherGridIndex.Neighbor> result = index.nearest(10, 20, 50, false, 5, 10L);
+
+        assertThat(result).extracting(WeatherGridIndex.Neighbor::ootdId).containsExactly(3L);
+    }
+}
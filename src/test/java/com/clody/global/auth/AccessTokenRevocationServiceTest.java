@@ -0,0 +1,227 @@
+package com.clody.global.auth;
+
+import com.clody.domain.member.entity.Member;
+import com.clody.global.jwt.JwtProperties;
+import com.clody.global.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccessTokenRevocationServiceTest {
+
+    @Mock RedisTemplate<String, Object> redisTemplate;
+    @Mock ValueOperations<String, Object> valueOperations;
+    @Mock RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private AccessTokenRevocationService revocationService;
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        revocationService = new AccessTokenRevocationService(redisTemplate, redisMessageListenerContainer);
+        ReflectionTestUtils.setField(revocationService, "expectedInsertions", 1000);
+        ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+        revocationService.init();
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        jwtProperties.setAccessTokenExpiration(60_000L);
+        jwtProperties.setRefreshTokenExpiration(60_000L);
+        jwtUtil = new JwtUtil(jwtProperties);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        filter = new JwtAuthenticationFilter(jwtUtil, revocationService);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 폐기한_토큰은_필터가_인증하지_않는다() throws Exception {
+        String token = jwtUtil.generateAccessToken(member(), "sid");
+        AuthPrincipal principal = jwtUtil.getPrincipalFromToken(token);
+
+        assertThat(authenticate(token)).isNotNull();
+
+        revocationService.revoke(principal.getTokenId(), principal.getExpiresAt());
+        given(redisTemplate.hasKey("revoked_jti:" + principal.getTokenId())).willReturn(true);
+
+        assertThat(authenticate(token)).isNull();
+        verify(valueOperations).set(eq("revoked_jti:" + principal.getTokenId()), eq("1"), any(Duration.class));
+        verify(redisTemplate).convertAndSend("revoked_jti", principal.getTokenId());
+    }
+
+    @Test
+    void Bloom_filter_에_없는_토큰은_Redis_를_확인하지_않는다() throws Exception {
+        String token = jwtUtil.generateAccessToken(member(), "sid");
+
+        assertThat(authenticate(token)).isNotNull();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void 다른_인스턴스의_폐기는_메시지로_filter_에_추가된다() {
+        given(redisTemplate.hasKey("revoked_jti:remote")).willReturn(true);
+
+        revocationService.onMessage(new DefaultMessage(
+                "revoked_jti".getBytes(), "remote".getBytes()), null);
+
+        assertThat(revocationService.isRevoked("remote")).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 재구축은_Redis_의_폐기_키로_filter_를_새로_만든다() {
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willReturn(true, true, false);
+        given(cursor.next()).willReturn("revoked_jti:a", "revoked_jti:b");
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+        given(redisTemplate.hasKey(anyString())).willReturn(true);
+
+        assertThat(revocationService.isRevoked("a")).isFalse();
+
+        revocationService.rebuild();
+
+        assertThat(revocationService.isRevoked("a")).isTrue();
+        assertThat(revocationService.isRevoked("b")).isTrue();
+        verify(cursor).close();
+    }
+
+    @Test
+    void Bloom_filter_는_추가한_값을_놓치지_않고_오탐률이_설정값_근처다() {
+        RevokedTokenBloomFilter bloomFilter = new RevokedTokenBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("jti-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("jti-" + i)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("other-" + i)) falsePositives++;
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void Bloom_filter_확인이_요청마다_Redis_를_왕복하는_것보다_빠르다() throws Exception {
+        int requests = 2_000;
+        for (int i = 0; i < 1_000; i++) {
+            revocationService.onMessage(new DefaultMessage("revoked_jti".getBytes(), ("revoked-" + i).getBytes()), null);
+        }
+
+        // 요청마다 확인하는 방식의 하한: 로컬 Redis 흉내 서버와의 EXISTS 한 번 왕복 (실제 Redis 는 처리 시간이 더 든다)
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread responder = Thread.ofVirtual().start(() -> answerExistsWithZero(server));
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort())) {
+                socket.setTcpNoDelay(true);
+                OutputStream out = socket.getOutputStream();
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+                // JIT 워밍업
+                for (int i = 0; i < requests; i++) {
+                    exists(out, in, "revoked_jti:live-" + i);
+                    revocationService.isRevoked("live-" + i);
+                }
+
+                long started = System.nanoTime();
+                for (int i = 0; i < requests; i++) {
+                    assertThat(exists(out, in, "revoked_jti:live-" + i)).isFalse();
+                }
+                long redisNanos = System.nanoTime() - started;
+
+                started = System.nanoTime();
+                for (int i = 0; i < requests; i++) {
+                    assertThat(revocationService.isRevoked("live-" + i)).isFalse();
+                }
+                long bloomNanos = System.nanoTime() - started;
+
+                // 폐기되지 않은 토큰은 메모리의 해시 몇 번으로 끝나므로 loopback 왕복보다도 빠르다
+                assertThat(bloomNanos).isLessThan(redisNanos);
+            }
+            responder.join(1_000);
+        }
+    }
+
+    // 연결 하나를 받아, RESP 배열로 온 명령(*2 $6 EXISTS $n key = 다섯 줄)마다 :0 으로 답한다
+    private void answerExistsWithZero(ServerSocket server) {
+        try (Socket client = server.accept()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = client.getOutputStream();
+            while (in.readLine() != null) {
+                for (int i = 0; i < 4; i++) {
+                    in.readLine();
+                }
+                out.write(":0\r\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // 테스트가 끝나 연결이 닫혔다
+        }
+    }
+
+    private boolean exists(OutputStream out, BufferedReader in, String key) throws IOException {
+        out.write("*2\r\n$6\r\nEXISTS\r\n$%d\r\n%s\r\n".formatted(key.length(), key).getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        return !":0".equals(in.readLine());
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private Member member() {
+        return Member.builder()
+                .id(1L)
+                .email("user@clody.com")
+                .password("encoded")
+                .nickname("clody")
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.clody.global.auth;
+
+import com.clody.domain.member.repository.MemberRepository;
+import com.clody.global.jwt.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSnapshotCacheTest {
+
+    @Mock MemberRepository memberRepository;
+    @Mock RedisTemplate<String, Object> redisTemplate;
+    @Mock RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock HashOperations<String, Object, Object> hashOperations;
+    @Mock ValueOperations<String, Object> valueOperations;
+
+    private MemberSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessTokenExpiration(60_000L);
+        cache = new MemberSnapshotCache(memberRepository, redisTemplate, redisMessageListenerContainer, jwtProperties);
+        ReflectionTestUtils.setField(cache, "localTtlMillis", 30_000L);
+        ReflectionTestUtils.setField(cache, "redisTtlMillis", 600_000L);
+    }
+
+    @Test
+    void 프로필_변경이_없으면_Redis_와_DB_에_접근하지_않는다() {
+        Optional<MemberSnapshot> newer = cache.findNewerThan(1L, 0);
+
+        assertThat(newer).isEmpty();
+        verifyNoInteractions(redisTemplate, memberRepository);
+    }
+
+    @Test
+    void 전파받은_버전_이후에_발급된_토큰은_I_O_없이_그대로_쓴다() {
+        cache.onMessage(new DefaultMessage("member_profile_version".getBytes(), "1:3".getBytes()), null);
+
+        assertThat(cache.findNewerThan(1L, 3)).isEmpty();
+        verifyNoInteractions(redisTemplate, memberRepository);
+    }
+
+    @Test
+    void 전파받은_버전보다_낡은_토큰이면_새_스냅샷을_돌려준다() {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("member_snapshot:1")).willReturn(Map.of(
+                "email", "user@clody.com",
+                "nickname", "새닉네임",
+                "accountScope", "PUBLIC",
+                "emailVerified", "true",
+                "profileVersion", "3"));
+        cache.onMessage(new DefaultMessage("member_profile_version".getBytes(), "1:3".getBytes()), null);
+
+        Optional<MemberSnapshot> newer = cache.findNewerThan(1L, 2);
+
+        assertThat(newer).get().extracting(MemberSnapshot::getNickname).isEqualTo("새닉네임");
+        assertThat(newer.get().getProfileVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void 프로필을_바꾼_인스턴스는_버전을_저장하고_전파한다() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        cache.evict(1L, 4);
+
+        verify(valueOperations).set("member_profile_version:1", "4", Duration.ofMillis(60_000L));
+        verify(redisTemplate).convertAndSend("member_profile_version", "1:4");
+        // 새 토큰은 I/O 없이 통과한다
+        assertThat(cache.findNewerThan(1L, 4)).isEmpty();
+        verifyNoInteractions(hashOperations, memberRepository);
+    }
+}
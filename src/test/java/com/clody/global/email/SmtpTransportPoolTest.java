@@ -0,0 +1,165 @@
+package com.clody.global.email;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.Provider;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmtpTransportPoolTest {
+
+    private static final String USERNAME = "clody";
+    private static final String PASSWORD = "secret";
+
+    // 풀이 아끼는 연결 + AUTH 비용까지 재도록 실제 서버처럼 인증을 요구한다
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser(USERNAME, PASSWORD))
+            .withPerMethodLifecycle(true);
+
+    private Session session;
+
+    @BeforeEach
+    void setUp() throws NoSuchProviderException {
+        Properties props = new Properties();
+        props.put("mail.smtp.host", "localhost");
+        props.put("mail.smtp.port", String.valueOf(ServerSetupTest.SMTP.getPort()));
+        props.put("mail.smtp.auth", "true");
+        props.put("mail.smtp.connectiontimeout", "5000");
+        props.put("mail.smtp.timeout", "5000");
+        session = Session.getInstance(props);
+        // 연결 횟수를 세기 위해 smtp 프로토콜의 구현을 바꿔 끼운다 (풀의 getTransport("smtp") 와 Transport.send 모두 이걸 쓴다)
+        session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp", CountingTransport.class.getName(), "clody", null));
+        CountingTransport.CONNECTS.set(0);
+    }
+
+    @Test
+    void 연결을_재사용한다() throws Exception {
+        try (SmtpTransportPool pool = pool(100, 60_000)) {
+            for (int i = 0; i < 5; i++) {
+                pool.send(message(i));
+            }
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(CountingTransport.CONNECTS.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 연결당_최대_메일_수를_넘으면_새_연결을_연다() throws Exception {
+        try (SmtpTransportPool pool = pool(2, 60_000)) {
+            for (int i = 0; i < 5; i++) {
+                pool.send(message(i));
+            }
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(CountingTransport.CONNECTS.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 쉬던_연결은_NOOP_으로_확인하고_끊겼으면_새로_연다() throws Exception {
+        try (SmtpTransportPool pool = pool(100, 0)) {
+            pool.send(message(0));
+            // 서버 재시작으로 풀에 있던 연결이 끊긴다
+            restartServer();
+            Thread.sleep(5);
+            pool.send(message(1));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(CountingTransport.CONNECTS.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 재사용한_연결로_발송이_실패하면_새_연결로_한_번_다시_보낸다() throws Exception {
+        // NOOP 확인을 건너뛰어, 끊긴 연결로 발송을 시도하게 만든다
+        try (SmtpTransportPool pool = pool(100, 60_000)) {
+            pool.send(message(0));
+            restartServer();
+            pool.send(message(1));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(greenMail.getReceivedMessages()[0].getSubject()).isEqualTo("test-1");
+        assertThat(CountingTransport.CONNECTS.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 풀_발송이_메일마다_연결하는_발송보다_빠르다() throws Exception {
+        int count = 50;
+
+        long started = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            Transport.send(message(i), USERNAME, PASSWORD);
+        }
+        long perMessageNanos = System.nanoTime() - started;
+        int perMessageConnects = CountingTransport.CONNECTS.getAndSet(0);
+
+        started = System.nanoTime();
+        try (SmtpTransportPool pool = pool(100, 60_000)) {
+            for (int i = 0; i < count; i++) {
+                pool.send(message(i));
+            }
+        }
+        long pooledNanos = System.nanoTime() - started;
+        int pooledConnects = CountingTransport.CONNECTS.get();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(count * 2);
+        assertThat(perMessageConnects).isEqualTo(count);
+        assertThat(pooledConnects).isEqualTo(1);
+        // 연결 + EHLO + AUTH + QUIT 을 메일마다 하지 않으므로 로컬 서버에서도 더 빠르다
+        assertThat(pooledNanos).isLessThan(perMessageNanos);
+    }
+
+    // reset 은 사용자 목록도 비우므로 계정을 다시 만든다
+    private void restartServer() {
+        greenMail.reset();
+        greenMail.setUser(USERNAME, PASSWORD);
+    }
+
+    private SmtpTransportPool pool(int maxMessagesPerConnection, long validateAfterMs) {
+        return new SmtpTransportPool(session, "localhost", ServerSetupTest.SMTP.getPort(), USERNAME, PASSWORD,
+                1, maxMessagesPerConnection, 60_000, validateAfterMs, 5_000);
+    }
+
+    private MimeMessage message(int index) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("noreply@clody.com"));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse("user@clody.com"));
+        message.setSubject("test-" + index);
+        message.setText("본문 " + index, "UTF-8");
+        return message;
+    }
+
+    public static class CountingTransport extends SMTPTransport {
+        static final AtomicInteger CONNECTS = new AtomicInteger();
+
+        public CountingTransport(Session session, URLName urlname) {
+            super(session, urlname);
+        }
+
+        @Override
+        protected synchronized boolean protocolConnect(String host, int port, String user, String password)
+                throws MessagingException {
+            CONNECTS.incrementAndGet();
+            return super.protocolConnect(host, port, user, password);
+        }
+    }
+}
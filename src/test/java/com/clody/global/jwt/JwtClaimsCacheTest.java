@@ -0,0 +1,126 @@
+package com.clody.global.jwt;
+
+import com.clody.global.apiPayload.code.base.FailureCode;
+import com.clody.global.apiPayload.exception.GeneralException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtClaimsCacheTest {
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        jwtProperties.setAccessTokenExpiration(60_000L);
+        jwtProperties.setRefreshTokenExpiration(60_000L);
+    }
+
+    @Test
+    void 같은_토큰은_두_번째부터_캐시된_claims_를_돌려준다() {
+        JwtUtil jwtUtil = jwtUtil();
+        String token = jwtUtil.generateRefreshToken("user@clody.com", 1L, "sid");
+
+        Claims first = jwtUtil.parseToken(token);
+        Claims second = jwtUtil.parseToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.getMemberIdFromToken(token)).isEqualTo(1L);
+    }
+
+    @Test
+    void 만료된_항목은_캐시에서_지우고_null_을_돌려준다() {
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        cache.put("live", claimsExpiringAt(System.currentTimeMillis() + 60_000));
+        cache.put("expired", claimsExpiringAt(System.currentTimeMillis() - 1));
+
+        assertThat(cache.get("live")).isNotNull();
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void 캐시된_토큰도_만료되면_만료_예외로_거절한다() throws InterruptedException {
+        jwtProperties.setRefreshTokenExpiration(1_000L);
+        JwtUtil jwtUtil = jwtUtil();
+        String token = jwtUtil.generateRefreshToken("user@clody.com", 1L, "sid");
+        jwtUtil.parseToken(token);
+
+        // exp 는 초 단위로 잘리므로 넉넉히 기다린다
+        Thread.sleep(2_000);
+
+        assertThatThrownBy(() -> jwtUtil.parseToken(token))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode").isEqualTo(FailureCode.JWT_EXPIRED_TOKEN);
+    }
+
+    @Test
+    void 최대_건수를_넘으면_가장_오래_안_쓴_항목부터_밀어낸다() {
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("a", claimsExpiringAt(expiresAt));
+        cache.put("b", claimsExpiringAt(expiresAt));
+        cache.get("a");
+        cache.put("c", claimsExpiringAt(expiresAt));
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void 최대_건수가_0_이면_저장하지_않는다() {
+        JwtClaimsCache cache = new JwtClaimsCache(0);
+        cache.put("a", claimsExpiringAt(System.currentTimeMillis() + 60_000));
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void 한_번_검증한_토큰을_캐시에서_읽는_것이_요청마다_검증하는_것보다_빠르다() {
+        int requests = 5_000;
+        JwtUtil cached = jwtUtil();
+        jwtProperties.setClaimsCacheMaxSize(0);
+        JwtUtil perRequest = jwtUtil();
+        String token = cached.generateRefreshToken("user@clody.com", 1L, "sid");
+
+        // JIT 워밍업
+        parseRepeatedly(cached, token, requests);
+        parseRepeatedly(perRequest, token, requests);
+
+        long started = System.nanoTime();
+        parseRepeatedly(perRequest, token, requests);
+        long perRequestNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        parseRepeatedly(cached, token, requests);
+        long cachedNanos = System.nanoTime() - started;
+
+        // 캐시 적중은 SHA-256 한 번 + 맵 조회, 검증은 Base64/JSON 파싱 + HMAC 이므로 로컬에서도 차이가 난다
+        assertThat(cachedNanos).isLessThan(perRequestNanos);
+    }
+
+    private void parseRepeatedly(JwtUtil jwtUtil, String token, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(jwtUtil.parseToken(token).get("memberId", Integer.class)).isEqualTo(1);
+        }
+    }
+
+    private JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(jwtProperties);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private Claims claimsExpiringAt(long millis) {
+        return Jwts.claims().subject("user@clody.com").expiration(new Date(millis)).build();
+    }
+}
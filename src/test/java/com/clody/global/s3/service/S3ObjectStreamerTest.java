@@ -0,0 +1,105 @@
+package com.clody.global.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.clody.global.s3.exception.S3ErrorCode;
+import com.clody.global.s3.exception.S3Exception;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectStreamerTest {
+
+    @Mock AmazonS3 amazonS3Client;
+
+    private S3ObjectStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        streamer = new S3ObjectStreamer(amazonS3Client);
+        ReflectionTestUtils.setField(streamer, "bucket", "bucket");
+        ReflectionTestUtils.setField(streamer, "cacheMaxAgeSeconds", 60L);
+        ReflectionTestUtils.setField(streamer, "bufferPoolSize", 1);
+        ReflectionTestUtils.setField(streamer, "bufferWaitMs", 10L);
+        streamer.init();
+    }
+
+    @Test
+    void 약한_ETag_하나가_일치하면_강한_형식의_ETag_로_304_를_돌려준다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(amazonS3Client.getObject(any(GetObjectRequest.class))).willReturn(null);
+
+        streamer.stream("key", request, response);
+
+        ArgumentCaptor<GetObjectRequest> sent = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(amazonS3Client).getObject(sent.capture());
+        assertThat(sent.getValue().getNonmatchingETagConstraints()).containsExactly("\"abc\"");
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"abc\"");
+        verify(amazonS3Client, never()).getObjectMetadata("bucket", "key");
+    }
+
+    @Test
+    void 여러_ETag_나_와일드카드가_일치하면_현재_ETag_를_조회해_보낸다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader("ETag", "current");
+        given(amazonS3Client.getObject(any(GetObjectRequest.class))).willReturn(null);
+        given(amazonS3Client.getObjectMetadata("bucket", "key")).willReturn(metadata);
+
+        streamer.stream("key", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"current\"");
+    }
+
+    @Test
+    void 현재_ETag_를_알_수_없으면_ETag_헤더를_생략한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"a\", \"b\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(amazonS3Client.getObject(any(GetObjectRequest.class))).willReturn(null);
+        given(amazonS3Client.getObjectMetadata("bucket", "key")).willThrow(new RuntimeException("down"));
+
+        streamer.stream("key", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void 버퍼를_모두_쓰는_중이면_기다린_뒤_503_으로_거절하고_새로_만들지_않는다() {
+        // 하나뿐인 버퍼를 다른 다운로드가 쓰고 있는 상태
+        ReflectionTestUtils.setField(streamer, "buffers", new ArrayBlockingQueue<byte[]>(1));
+        ReflectionTestUtils.setField(streamer, "created", new AtomicInteger(1));
+
+        assertThatThrownBy(() -> streamer.stream("key", new MockHttpServletRequest(), new MockHttpServletResponse()))
+                .isInstanceOf(S3Exception.class)
+                .extracting("baseErrorCode")
+                .isEqualTo(S3ErrorCode.DOWNLOAD_BUSY);
+        verify(amazonS3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+}